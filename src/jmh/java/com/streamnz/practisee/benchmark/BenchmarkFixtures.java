@@ -0,0 +1,115 @@
+package com.streamnz.practisee.benchmark;
+
+import com.streamnz.practisee.config.CircuitBreakerConfig;
+import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.config.ListenerConfig;
+import com.streamnz.practisee.enums.CrossCuttingModeEnum;
+import com.streamnz.practisee.enums.HandlerDecoratorEnum;
+import com.streamnz.practisee.enums.RetryModeEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageService;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.handler.DMSHandler;
+import com.streamnz.practisee.service.handler.EMSHandler;
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.handler.SCADAHandler;
+import com.streamnz.practisee.service.handler.decorator.DecoratorFactory;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.impl.TelemetryServiceImpl;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Constructor;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Wires the handler chain by hand, without a Spring Boot context, a database or a broker.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+final class BenchmarkFixtures {
+
+    static final String EVENT_JSON = "{\"eventId\":\"9000000001\",\"eventDescription\":\"Feeder trip\","
+            + "\"feederId\":\"FDR-1042\",\"sourceSystem\":\"SCADA\",\"eventTime\":\"2025-10-06 10:15:30\","
+            + "\"stormLevel\":7,\"critical\":false}";
+
+    private BenchmarkFixtures() {
+    }
+
+    static OutageEvent sampleEvent(SourceSystemEnum sourceSystem) {
+        OutageEvent event = new OutageEvent("9000000001", sourceSystem, Instant.parse("2025-10-06T10:15:30Z"));
+        event.setFeederId("FDR-1042");
+        event.setStormLevel(7);
+        return event;
+    }
+
+    /**
+     * Persistence that completes immediately, so the benchmarks measure the chain itself.
+     */
+    static OutageService noopOutageService() {
+        return new OutageService() {
+            @Override
+            public void saveEvent(OutageEvent event) {
+            }
+
+            @Override
+            public CompletableFuture<Void> saveEventAsync(OutageEvent event) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+
+    static OutageEventListenerRegister listenerRegister(List<? extends OutageEventListener> listeners) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        for (int i = 0; i < listeners.size(); i++) {
+            context.getBeanFactory().registerSingleton("listener" + i, listeners.get(i));
+        }
+        context.refresh();
+        OutageEventListenerRegister register = new OutageEventListenerRegister(new ListenerConfig(),
+                context.getBeanProvider(OutageDeadLetterQueue.class));
+        register.setApplicationContext(context);
+        register.init();
+        return register;
+    }
+
+    static HandlerRegister handlerRegister(OutageService outageService, OutageEventListenerRegister listenerRegister) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getBeanFactory().registerSingleton("scadaHandler", new SCADAHandler(outageService, listenerRegister));
+        context.getBeanFactory().registerSingleton("emsHandler", newHandler(EMSHandler.class, outageService, listenerRegister));
+        context.getBeanFactory().registerSingleton("dmsHandler", newHandler(DMSHandler.class, outageService, listenerRegister));
+        context.refresh();
+        HandlerRegister register = new HandlerRegister(decoratorFactory(List.of()));
+        register.setApplicationContext(context);
+        register.init();
+        return register;
+    }
+
+    /**
+     * Decorator chain in decorator mode with inline retries and no circuit breaker.
+     * @param chain outermost first, empty to register the bare handlers
+     */
+    static DecoratorFactory decoratorFactory(List<HandlerDecoratorEnum> chain) {
+        DecoratorConfig config = new DecoratorConfig();
+        ReflectionTestUtils.setField(config, "maxRetries", 3);
+        ReflectionTestUtils.setField(config, "retryEnabled", true);
+        ReflectionTestUtils.setField(config, "retryMode", RetryModeEnum.INLINE);
+        ReflectionTestUtils.setField(config, "crossCuttingMode", CrossCuttingModeEnum.DECORATOR);
+        ReflectionTestUtils.setField(config, "chain", chain);
+        return new DecoratorFactory(config, new TelemetryServiceImpl(), new CircuitBreakerConfig());
+    }
+
+    // EMS and DMS handlers only expose protected constructors for Spring
+    static <T> T newHandler(Class<T> type, OutageService outageService, OutageEventListenerRegister listenerRegister) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor(OutageService.class, OutageEventListenerRegister.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(outageService, listenerRegister);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.streamnz.practisee.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+
+/**
+ * Runs every benchmark in this package single-threaded and with one thread per core, in
+ * throughput mode with the GC profiler for allocation rate, and writes JSON results to
+ * {@code target/jmh-threads-N.json}.
+ * <pre>
+ * ./mvnw -Pjmh test-compile exec:exec
+ * </pre>
+ * Passing arguments hands over to the regular JMH command line instead, e.g.
+ * {@code -Dexec.args="-classpath %classpath com.streamnz.practisee.benchmark.BenchmarkRunner CrossCutting -prof gc"}.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[]{1, cores}) {
+            Options options = new OptionsBuilder()
+                    .include(BenchmarkRunner.class.getPackageName() + ".*Benchmark")
+                    .threads(threads)
+                    .forks(1)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(2))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(2))
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-threads-" + threads + ".json")
+                    .build();
+            new Runner(options).run();
+            if (cores == 1) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.streamnz.practisee.benchmark;
+
+import com.streamnz.practisee.enums.HandlerDecoratorEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageService;
+import com.streamnz.practisee.service.handler.DMSHandler;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.aop.RetryAspect;
+import com.streamnz.practisee.service.handler.aop.TelemetryAspect;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.impl.TelemetryServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The bare DMS handler (no per-step logging) vs the same handler with retry + telemetry applied
+ * by the decorator chain as {@code DecoratorFactory} builds it at startup, vs by the Spring AOP
+ * aspects on a CGLIB proxy as Spring Boot creates it. The differences to {@code plain} are the
+ * cost of each cross-cutting path.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+@State(Scope.Benchmark)
+public class CrossCuttingBenchmark {
+
+    private OutageHandler plain;
+
+    private OutageHandler decorated;
+
+    private OutageHandler proxied;
+
+    @Setup
+    public void setUp() {
+        OutageService outageService = BenchmarkFixtures.noopOutageService();
+        OutageEventListenerRegister listenerRegister = BenchmarkFixtures.listenerRegister(List.of());
+        TelemetryServiceImpl telemetryService = new TelemetryServiceImpl();
+
+        plain = BenchmarkFixtures.newHandler(DMSHandler.class, outageService, listenerRegister);
+
+        decorated = BenchmarkFixtures.decoratorFactory(List.of(HandlerDecoratorEnum.TELEMETRY, HandlerDecoratorEnum.RETRY))
+                .createDecorator(BenchmarkFixtures.newHandler(DMSHandler.class, outageService, listenerRegister));
+
+        RetryAspect retryAspect = new RetryAspect();
+        ReflectionTestUtils.setField(retryAspect, "maxRetries", 3);
+        ReflectionTestUtils.setField(retryAspect, "retryEnabled", true);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                BenchmarkFixtures.newHandler(DMSHandler.class, outageService, listenerRegister));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(retryAspect);
+        proxyFactory.addAspect(new TelemetryAspect(telemetryService));
+        proxied = proxyFactory.getProxy();
+    }
+
+    @State(Scope.Thread)
+    public static class EventState {
+        private final OutageEvent event = BenchmarkFixtures.sampleEvent(SourceSystemEnum.DMS);
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> plain(EventState state) throws OutageProcessingException {
+        return plain.handle(state.event);
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> decoratorChain(EventState state) throws OutageProcessingException {
+        return decorated.handle(state.event);
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> aspectProxy(EventState state) throws OutageProcessingException {
+        return proxied.handle(state.event);
+    }
+}
@@ -0,0 +1,61 @@
+package com.streamnz.practisee.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.streamnz.practisee.codec.EventTimeDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * {@code eventTime} through {@link EventTimeDeserializer} against the {@code @JsonFormat}
+ * pattern alone, on a holder with just that field so the difference is not diluted.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:43
+ */
+@State(Scope.Benchmark)
+public class EventTimeBenchmark {
+
+    public static class FormatterTime {
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "UTC")
+        public Instant eventTime;
+    }
+
+    public static class FastPathTime {
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "UTC")
+        @JsonDeserialize(using = EventTimeDeserializer.class)
+        public Instant eventTime;
+    }
+
+    private ObjectReader formatterReader;
+
+    private ObjectReader fastPathReader;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+        formatterReader = mapper.readerFor(FormatterTime.class);
+        fastPathReader = mapper.readerFor(FastPathTime.class);
+        payload = "{\"eventTime\":\"2025-10-06 10:15:30\"}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public FormatterTime formatter() throws IOException {
+        return formatterReader.readValue(payload);
+    }
+
+    @Benchmark
+    public FastPathTime fastPath() throws IOException {
+        return fastPathReader.readValue(payload);
+    }
+}
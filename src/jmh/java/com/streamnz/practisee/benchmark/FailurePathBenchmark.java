@@ -0,0 +1,77 @@
+package com.streamnz.practisee.benchmark;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageService;
+import com.streamnz.practisee.service.handler.DMSHandler;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.decorator.RetryDecorator;
+import com.streamnz.practisee.service.handler.decorator.TelemetryDecorator;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.impl.TelemetryServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An event that fails on every attempt vs one that succeeds, through the telemetry + retry
+ * decorator stack, to keep the cost of the failure path close to that of the success path.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:51
+ */
+@State(Scope.Benchmark)
+public class FailurePathBenchmark {
+
+    private OutageHandler succeeding;
+
+    private OutageHandler failing;
+
+    @Setup
+    public void setUp() {
+        OutageEventListenerRegister listenerRegister = BenchmarkFixtures.listenerRegister(List.of());
+        TelemetryServiceImpl telemetryService = new TelemetryServiceImpl();
+        succeeding = new TelemetryDecorator(new RetryDecorator(BenchmarkFixtures.newHandler(DMSHandler.class,
+                BenchmarkFixtures.noopOutageService(), listenerRegister), 3), telemetryService);
+        failing = new TelemetryDecorator(new RetryDecorator(BenchmarkFixtures.newHandler(DMSHandler.class,
+                failingOutageService(), listenerRegister), 3), telemetryService);
+    }
+
+    private static OutageService failingOutageService() {
+        IllegalStateException dbDown = new IllegalStateException("db down");
+        return new OutageService() {
+            @Override
+            public void saveEvent(OutageEvent event) {
+                throw dbDown;
+            }
+
+            // thrown before the hand-off, so each attempt fails on the benchmark thread and is retried inline
+            @Override
+            public CompletableFuture<Void> saveEventAsync(OutageEvent event) {
+                throw dbDown;
+            }
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class EventState {
+        private final OutageEvent event = BenchmarkFixtures.sampleEvent(SourceSystemEnum.DMS);
+    }
+
+    @Benchmark
+    public Object success(EventState state) throws Exception {
+        return succeeding.handle(state.event);
+    }
+
+    @Benchmark
+    public Object failure(EventState state) {
+        try {
+            return failing.handle(state.event);
+        } catch (Exception e) {
+            return e;
+        }
+    }
+}
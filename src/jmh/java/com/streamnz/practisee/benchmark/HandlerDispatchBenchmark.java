@@ -0,0 +1,45 @@
+package com.streamnz.practisee.benchmark;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Cost of resolving the handler for an event's source system.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+@State(Scope.Benchmark)
+public class HandlerDispatchBenchmark {
+
+    @Param({"SCADA", "EMS", "DMS"})
+    private String sourceSystem;
+
+    private HandlerRegister handlerRegister;
+
+    private SourceSystemEnum sourceSystemEnum;
+
+    @Setup
+    public void setUp() {
+        sourceSystemEnum = SourceSystemEnum.valueOf(sourceSystem);
+        handlerRegister = BenchmarkFixtures.handlerRegister(BenchmarkFixtures.noopOutageService(),
+                BenchmarkFixtures.listenerRegister(List.of()));
+    }
+
+    @Benchmark
+    public OutageHandler getHandler() {
+        return handlerRegister.getHandler(sourceSystem);
+    }
+
+    @Benchmark
+    public OutageHandler getHandlerByEnum() {
+        return handlerRegister.getHandler(sourceSystemEnum);
+    }
+}
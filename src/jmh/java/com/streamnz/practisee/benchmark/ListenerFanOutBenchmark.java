@@ -0,0 +1,59 @@
+package com.streamnz.practisee.benchmark;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.handler.listeners.OutageEventSubscription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code publishEvent} with N listeners, a quarter of which subscribe to every event and the
+ * rest only to critical events, published with a non-critical event.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+@State(Scope.Benchmark)
+public class ListenerFanOutBenchmark {
+
+    @Param({"3", "12", "48"})
+    private int listenerCount;
+
+    private OutageEventListenerRegister register;
+
+    private OutageEvent event;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        List<OutageEventListener> listeners = new ArrayList<>();
+        for (int i = 0; i < listenerCount; i++) {
+            boolean broadcast = i % 4 == 0;
+            listeners.add(new OutageEventListener() {
+                @Override
+                public void onOutageEvent(OutageEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public OutageEventSubscription subscription() {
+                    return broadcast ? OutageEventSubscription.all() : OutageEventSubscription.all().criticalOnly();
+                }
+            });
+        }
+        register = BenchmarkFixtures.listenerRegister(listeners);
+        event = BenchmarkFixtures.sampleEvent(SourceSystemEnum.SCADA);
+    }
+
+    @Benchmark
+    public void publishEvent() {
+        register.publishEvent(event);
+    }
+}
@@ -0,0 +1,71 @@
+package com.streamnz.practisee.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.streamnz.practisee.codec.OutageEventCodec;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutageEventCodec} against the Jackson mapping for the same event, both directions.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:39
+ */
+@State(Scope.Thread)
+public class OutageEventCodecBenchmark {
+
+    private OutageEvent event;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    private ByteBuffer binary;
+
+    private final ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        event = BenchmarkFixtures.sampleEvent(SourceSystemEnum.SCADA);
+        event.setEventDescription("Feeder trip");
+        ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+        writer = mapper.writerFor(OutageEvent.class);
+        reader = mapper.readerFor(OutageEvent.class);
+        json = writer.writeValueAsBytes(event);
+        binary = OutageEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        scratch.clear();
+        OutageEventCodec.encode(event, scratch);
+        return scratch;
+    }
+
+    @Benchmark
+    public OutageEvent binaryDecode() {
+        return OutageEventCodec.decode(binary.duplicate());
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws JsonProcessingException {
+        return writer.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public OutageEvent jsonDecode() throws IOException {
+        return reader.readValue(json);
+    }
+}
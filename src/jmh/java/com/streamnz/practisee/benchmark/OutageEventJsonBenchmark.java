@@ -0,0 +1,36 @@
+package com.streamnz.practisee.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Inbound JSON to {@link OutageEvent}, with the modules Spring Boot registers.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+@State(Scope.Benchmark)
+public class OutageEventJsonBenchmark {
+
+    private ObjectReader reader;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        reader = JsonMapper.builder().findAndAddModules().build().readerFor(OutageEvent.class);
+        payload = BenchmarkFixtures.EVENT_JSON.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public OutageEvent deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,55 @@
+package com.streamnz.practisee.benchmark;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.listeners.StandardOutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.SuburbanStormOutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.UrbanCriticalListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Full {@code OutageHandleTemplate.handle} per handler with the production listeners and
+ * no-op persistence.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:23
+ */
+@State(Scope.Benchmark)
+public class OutageHandleBenchmark {
+
+    @Param({"SCADA", "EMS", "DMS"})
+    private SourceSystemEnum sourceSystem;
+
+    private OutageHandler handler;
+
+    @Setup
+    public void setUp() {
+        handler = BenchmarkFixtures.handlerRegister(BenchmarkFixtures.noopOutageService(),
+                BenchmarkFixtures.listenerRegister(List.of(new StandardOutageEventListener(),
+                        new SuburbanStormOutageEventListener(), new UrbanCriticalListener())))
+                .getHandler(sourceSystem.getName());
+    }
+
+    @State(Scope.Thread)
+    public static class EventState {
+        private OutageEvent event;
+
+        @Setup
+        public void setUp(OutageHandleBenchmark benchmark) {
+            event = BenchmarkFixtures.sampleEvent(benchmark.sourceSystem);
+        }
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> handle(EventState state) throws OutageProcessingException {
+        return handler.handle(state.event);
+    }
+}
@@ -0,0 +1,112 @@
+package com.streamnz.practisee.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Reads {@code OutageEvent.eventTime} without going through {@code DateTimeFormatter} for the
+ * common case. A string in exactly the {@code yyyy-MM-dd HH:mm:ss} UTC form with in-range fields
+ * is parsed by hand from the parser's character buffer, an integer is taken as epoch millis.
+ * Everything else, including malformed and out-of-range input, goes to the regular
+ * {@link InstantDeserializer} built from the property's {@code @JsonFormat}, so results and
+ * errors stay exactly as they were.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:43
+ */
+public class EventTimeDeserializer extends StdScalarDeserializer<Instant> implements ContextualDeserializer {
+
+    private static final int LENGTH = "yyyy-MM-dd HH:mm:ss".length();
+    private static final long DAYS_0000_TO_1970 = 719468;
+
+    private final JsonDeserializer<Instant> fallback;
+
+    public EventTimeDeserializer() {
+        this(InstantDeserializer.INSTANT);
+    }
+
+    private EventTimeDeserializer(JsonDeserializer<Instant> fallback) {
+        super(Instant.class);
+        this.fallback = fallback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        return new EventTimeDeserializer((JsonDeserializer<Instant>) InstantDeserializer.INSTANT.createContextual(ctxt, property));
+    }
+
+    @Override
+    public Instant deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() == LENGTH) {
+            long epochSecond = parse(p.getTextCharacters(), p.getTextOffset());
+            if (epochSecond != Long.MIN_VALUE) {
+                return Instant.ofEpochSecond(epochSecond);
+            }
+        } else if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return Instant.ofEpochMilli(p.getLongValue());
+        }
+        return fallback.deserialize(p, ctxt);
+    }
+
+    /**
+     * @return epoch seconds, or Long.MIN_VALUE unless the text is a valid timestamp in the fast-path form
+     */
+    static long parse(char[] text, int offset) {
+        if (text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != ' '
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            // also covers a non-digit, digits() returns -1
+            return Long.MIN_VALUE;
+        }
+        return epochDay(year, month, day) * 86400 + hour * 3600 + minute * 60 + second;
+    }
+
+    private static int digits(char[] text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    // days since 1970-01-01 of a proleptic Gregorian date, years counted from March
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * 146097 + dayOfEra - DAYS_0000_TO_1970;
+    }
+}
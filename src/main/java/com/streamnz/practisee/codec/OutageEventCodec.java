@@ -0,0 +1,217 @@
+package com.streamnz.practisee.codec;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Fixed-layout binary form of {@link OutageEvent}, shared by the ingestion path, the dead-letter
+ * queue and the journal:
+ * <pre>
+ * [byte version][byte flags]
+ * [long numericEventId]      if FLAG_NUMERIC_ID, else [string eventId]
+ * [byte sourceSystem]        ordinal, -1 when missing
+ * [long epochMillis]         if FLAG_HAS_TIME
+ * [int nanoOfMilli]          if FLAG_SUB_MILLIS
+ * [byte stormLevel]          [int stormLevel] if FLAG_WIDE_STORM
+ * [string description][string feederId]
+ * [int occurrences]          if FLAG_OCCURRENCES, 1 otherwise
+ * </pre>
+ * Strings are {@code [int utf-8 length or -1][utf-8]} and are encoded straight from their chars,
+ * so encoding allocates nothing; {@link #encodedSize} is exact and also allocation-free.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:35
+ */
+public final class OutageEventCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int FLAG_NUMERIC_ID = 1;
+    private static final int FLAG_CRITICAL = 1 << 1;
+    private static final int FLAG_HAS_TIME = 1 << 2;
+    private static final int FLAG_SUB_MILLIS = 1 << 3;
+    private static final int FLAG_WIDE_STORM = 1 << 4;
+    private static final int FLAG_OCCURRENCES = 1 << 5;
+
+    private static final SourceSystemEnum[] SOURCE_SYSTEMS = SourceSystemEnum.values();
+
+    private OutageEventCodec() {
+    }
+
+    public static ByteBuffer encode(OutageEvent event) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(event));
+        encode(event, buffer);
+        return buffer.flip();
+    }
+
+    public static int encodedSize(OutageEvent event) {
+        int flags = flagsOf(event);
+        int size = 2 + ((flags & FLAG_NUMERIC_ID) != 0 ? 8 : stringSize(event.getEventId())) + 1;
+        if ((flags & FLAG_HAS_TIME) != 0) {
+            size += 8;
+        }
+        if ((flags & FLAG_SUB_MILLIS) != 0) {
+            size += 4;
+        }
+        size += (flags & FLAG_WIDE_STORM) != 0 ? 5 : 1;
+        size += stringSize(event.getEventDescription()) + stringSize(event.getFeederId());
+        return (flags & FLAG_OCCURRENCES) != 0 ? size + 4 : size;
+    }
+
+    /**
+     * Write the event at the buffer's position, which must have {@link #encodedSize} bytes left.
+     * @param event
+     * @param buffer
+     */
+    public static void encode(OutageEvent event, ByteBuffer buffer) {
+        int flags = flagsOf(event);
+        buffer.put(VERSION);
+        buffer.put((byte) flags);
+        if ((flags & FLAG_NUMERIC_ID) != 0) {
+            buffer.putLong(event.getNumericEventId());
+        } else {
+            putString(buffer, event.getEventId());
+        }
+        buffer.put(event.getSourceSystem() == null ? -1 : (byte) event.getSourceSystem().ordinal());
+        Instant eventTime = event.getEventTime();
+        if ((flags & FLAG_HAS_TIME) != 0) {
+            buffer.putLong(eventTime.toEpochMilli());
+        }
+        if ((flags & FLAG_SUB_MILLIS) != 0) {
+            buffer.putInt(eventTime.getNano() % 1_000_000);
+        }
+        if ((flags & FLAG_WIDE_STORM) != 0) {
+            buffer.put((byte) 0).putInt(event.getStormLevel());
+        } else {
+            buffer.put((byte) event.getStormLevel());
+        }
+        putString(buffer, event.getEventDescription());
+        putString(buffer, event.getFeederId());
+        if ((flags & FLAG_OCCURRENCES) != 0) {
+            buffer.putInt(event.getOccurrences());
+        }
+    }
+
+    public static OutageEvent decode(ByteBuffer buffer) {
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported OutageEvent encoding version " + version);
+        }
+        int flags = buffer.get();
+        OutageEvent event = new OutageEvent();
+        if ((flags & FLAG_NUMERIC_ID) != 0) {
+            event.setNumericEventId(buffer.getLong());
+        } else {
+            event.setEventId(getString(buffer));
+        }
+        byte source = buffer.get();
+        event.setSourceSystem(source < 0 ? null : SOURCE_SYSTEMS[source]);
+        if ((flags & FLAG_HAS_TIME) != 0) {
+            long epochMillis = buffer.getLong();
+            int nanoOfMilli = (flags & FLAG_SUB_MILLIS) != 0 ? buffer.getInt() : 0;
+            event.setEventTime(Instant.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                    Math.floorMod(epochMillis, 1000) * 1_000_000L + nanoOfMilli));
+        }
+        byte stormLevel = buffer.get();
+        event.setStormLevel((flags & FLAG_WIDE_STORM) != 0 ? buffer.getInt() : stormLevel);
+        event.setCritical((flags & FLAG_CRITICAL) != 0);
+        event.setEventDescription(getString(buffer));
+        event.setFeederId(getString(buffer));
+        if ((flags & FLAG_OCCURRENCES) != 0) {
+            event.setOccurrences(buffer.getInt());
+        }
+        return event;
+    }
+
+    private static int flagsOf(OutageEvent event) {
+        int flags = 0;
+        if (event.getNumericEventId() != 0) {
+            flags |= FLAG_NUMERIC_ID;
+        }
+        if (event.isCritical()) {
+            flags |= FLAG_CRITICAL;
+        }
+        if (event.getEventTime() != null) {
+            flags |= FLAG_HAS_TIME;
+            if (event.getEventTime().getNano() % 1_000_000 != 0) {
+                flags |= FLAG_SUB_MILLIS;
+            }
+        }
+        if (event.getStormLevel() != (byte) event.getStormLevel()) {
+            flags |= FLAG_WIDE_STORM;
+        }
+        if (event.getOccurrences() != 1) {
+            flags |= FLAG_OCCURRENCES;
+        }
+        return flags;
+    }
+
+    public static int stringSize(String value) {
+        return 4 + (value == null ? 0 : utf8Length(value));
+    }
+
+    public static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(utf8Length(value));
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, same replacement as String.getBytes
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    public static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
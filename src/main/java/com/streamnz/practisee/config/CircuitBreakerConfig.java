@@ -0,0 +1,43 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:29
+ */
+@Configuration
+@Getter
+public class CircuitBreakerConfig {
+
+    @Value("${circuit.enabled:false}")
+    private boolean enabled;
+
+    // outcomes of the last windowSize calls per handler decide whether the circuit opens
+    @Value("${circuit.windowSize:50}")
+    private int windowSize;
+
+    // no decision until the window holds at least this many calls
+    @Value("${circuit.minimumCalls:20}")
+    private int minimumCalls;
+
+    @Value("${circuit.failureRateThreshold:50}")
+    private int failureRateThreshold;
+
+    // how long an open circuit short-circuits before letting probes through
+    @Value("${circuit.openMillis:5000}")
+    private long openMillis;
+
+    // consecutive successful probes needed to close a half-open circuit
+    @Value("${circuit.halfOpenProbes:3}")
+    private int halfOpenProbes;
+
+    // bulkhead, calls in flight in one handler, each holding its permit until its write commits; keep it at or
+    // above the ingress concurrency, plus persistence.batch.size when batching,
+    // calls past it fail with OutageCircuitOpenException and are dead-lettered without a retry
+    @Value("${circuit.maxConcurrent:64}")
+    private int maxConcurrent;
+
+}
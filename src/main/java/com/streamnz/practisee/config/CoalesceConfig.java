@@ -0,0 +1,23 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 03:12
+ */
+@Configuration
+@Getter
+public class CoalesceConfig {
+
+    // repeats for the same source system and feeder within this window are merged into one event
+    @Value("${coalesce.windowMillis:1000}")
+    private long windowMillis;
+
+    // open windows at once, rounded up to a power of two; events that find no slot pass through
+    @Value("${coalesce.capacity:16384}")
+    private int capacity;
+
+}
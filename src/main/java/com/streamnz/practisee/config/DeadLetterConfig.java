@@ -0,0 +1,32 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+@Configuration
+@Getter
+public class DeadLetterConfig {
+
+    @Value("${dlq.directory:data/dlq}")
+    private String directory;
+
+    @Value("${dlq.segmentBytes:67108864}")
+    private int segmentBytes;
+
+    // group commit, force to disk after this many appends or this long after the first unforced one
+    @Value("${dlq.forceEveryAppends:256}")
+    private int forceEveryAppends;
+
+    @Value("${dlq.forceIntervalMillis:200}")
+    private long forceIntervalMillis;
+
+    // replay pace when the caller does not give one
+    @Value("${dlq.replay.eventsPerSecond:500}")
+    private int replayEventsPerSecond;
+
+}
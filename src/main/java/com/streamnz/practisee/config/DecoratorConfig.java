@@ -1,10 +1,15 @@
 package com.streamnz.practisee.config;
 
+import com.streamnz.practisee.enums.CrossCuttingModeEnum;
+import com.streamnz.practisee.enums.HandlerDecoratorEnum;
+import com.streamnz.practisee.enums.RetryModeEnum;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
  * @Author cheng hao
  * @Date 06/10/2025 20:31
@@ -20,5 +25,29 @@ public class DecoratorConfig {
     @Value("${retry.enabled:true}")
     private boolean retryEnabled;
 
+    // retries never go back through the ingress: with SCHEDULED, and for failed writes in either mode,
+    // a retried event can be persisted after later events of its feeder, ingress.mode=partitioned
+    // orders first attempts only
+    @Value("${retry.mode:INLINE}")
+    private RetryModeEnum retryMode;
+
+    // backoff before the second attempt, doubled for every further attempt
+    @Value("${retry.initialBackoffMillis:50}")
+    private long initialBackoffMillis;
+
+    @Value("${retry.maxBackoffMillis:5000}")
+    private long maxBackoffMillis;
+
+    // events waiting for a scheduled retry before further failures are given up straight away
+    @Value("${retry.maxPending:10000}")
+    private int maxPendingRetries;
+
+    // DECORATOR wraps each handler in the chain below at startup, AOP leaves retry and telemetry to the aspects
+    @Value("${handler.crosscutting:DECORATOR}")
+    private CrossCuttingModeEnum crossCuttingMode;
+
+    // decorator chain, outermost first
+    @Value("${handler.chain:TELEMETRY,RETRY,CIRCUIT_BREAKER}")
+    private List<HandlerDecoratorEnum> chain;
 
 }
@@ -0,0 +1,26 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:13
+ */
+@Configuration
+@Getter
+public class DedupConfig {
+
+    @Value("${dedup.enabled:true}")
+    private boolean enabled;
+
+    // eventIds remembered at once, rounded up to a power of two
+    @Value("${dedup.capacity:65536}")
+    private int capacity;
+
+    // how long a seen eventId suppresses redeliveries
+    @Value("${dedup.ttlMillis:600000}")
+    private long ttlMillis;
+
+}
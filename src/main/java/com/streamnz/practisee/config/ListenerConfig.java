@@ -0,0 +1,29 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:16
+ */
+@Configuration
+@Getter
+public class ListenerConfig {
+
+    // notify listeners concurrently on a dedicated executor instead of the handler thread
+    @Value("${listener.async.enabled:false}")
+    private boolean asyncEnabled;
+
+    @Value("${listener.async.threads:8}")
+    private int threads;
+
+    @Value("${listener.async.queueCapacity:10000}")
+    private int queueCapacity;
+
+    // per listener, a listener still running after this is reported as failed
+    @Value("${listener.async.timeoutMillis:500}")
+    private long timeoutMillis;
+
+}
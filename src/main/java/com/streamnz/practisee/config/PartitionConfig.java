@@ -0,0 +1,23 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:09
+ */
+@Configuration
+@Getter
+public class PartitionConfig {
+
+    // single-threaded lanes per source system
+    @Value("${partition.lanesPerSource:4}")
+    private int lanesPerSource;
+
+    // pending events per lane before new ones are rejected
+    @Value("${partition.laneCapacity:4096}")
+    private int laneCapacity;
+
+}
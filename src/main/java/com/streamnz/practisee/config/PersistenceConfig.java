@@ -0,0 +1,27 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:11
+ */
+@Configuration
+@Getter
+public class PersistenceConfig {
+
+    // flush as soon as this many events are pending
+    @Value("${persistence.batch.size:500}")
+    private int batchSize;
+
+    // flush at the latest this long after the first event of a batch arrived
+    @Value("${persistence.batch.maxDelayMillis:20}")
+    private long maxDelayMillis;
+
+    // events waiting for a flush before saveEvent callers block
+    @Value("${persistence.batch.queueCapacity:10000}")
+    private int queueCapacity;
+
+}
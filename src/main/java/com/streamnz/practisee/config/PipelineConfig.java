@@ -0,0 +1,26 @@
+package com.streamnz.practisee.config;
+
+import com.streamnz.practisee.enums.BackpressurePolicyEnum;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:08
+ */
+@Configuration
+@Getter
+public class PipelineConfig {
+
+    // number of events the ring buffer can hold before backpressure kicks in
+    @Value("${pipeline.capacity:16384}")
+    private int capacity;
+
+    @Value("${pipeline.workers:4}")
+    private int workers;
+
+    @Value("${pipeline.backpressure:BLOCK}")
+    private BackpressurePolicyEnum backpressure;
+
+}
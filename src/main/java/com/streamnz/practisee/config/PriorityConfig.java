@@ -0,0 +1,26 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:18
+ */
+@Configuration
+@Getter
+public class PriorityConfig {
+
+    // capacity of each priority queue
+    @Value("${priority.queueCapacity:16384}")
+    private int queueCapacity;
+
+    @Value("${priority.workers:4}")
+    private int workers;
+
+    // after this many CRITICAL or HIGH events in a row a worker serves one queued ROUTINE event, HIGH never jumps CRITICAL
+    @Value("${priority.maxConsecutive:32}")
+    private int maxConsecutive;
+
+}
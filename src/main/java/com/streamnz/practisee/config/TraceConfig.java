@@ -0,0 +1,23 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:56
+ */
+@Configuration
+@Getter
+public class TraceConfig {
+
+    // share of successfully handled events that get a trace record, 0 to 1
+    @Value("${trace.sampleRate:0.01}")
+    private double sampleRate;
+
+    // failures are always traced, critical events too unless this is off
+    @Value("${trace.alwaysTraceCritical:true}")
+    private boolean alwaysTraceCritical;
+
+}
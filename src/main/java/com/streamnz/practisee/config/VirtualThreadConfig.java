@@ -0,0 +1,23 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:10
+ */
+@Configuration
+@Getter
+public class VirtualThreadConfig {
+
+    // events allowed inside the handler chain at once, keep below the DB connection pool size
+    @Value("${virtual.maxConcurrency:64}")
+    private int maxConcurrency;
+
+    // accepted but unfinished events (running + waiting for a permit) before new ones are rejected
+    @Value("${virtual.maxInFlight:10000}")
+    private int maxInFlight;
+
+}
@@ -0,0 +1,36 @@
+package com.streamnz.practisee.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:35
+ */
+@Configuration
+@Getter
+public class WalConfig {
+
+    @Value("${wal.directory:data/wal}")
+    private String directory;
+
+    @Value("${wal.segmentBytes:134217728}")
+    private int segmentBytes;
+
+    // group commit, an accepted event is durable at the latest after this many appends or this long
+    @Value("${wal.forceEveryAppends:512}")
+    private int forceEveryAppends;
+
+    @Value("${wal.forceIntervalMillis:10}")
+    private long forceIntervalMillis;
+
+    // how often the persisted position is written and fully processed segments deleted
+    @Value("${wal.checkpointIntervalMillis:1000}")
+    private long checkpointIntervalMillis;
+
+    // journaled events re-dispatched concurrently on startup
+    @Value("${wal.recoveryConcurrency:64}")
+    private int recoveryConcurrency;
+
+}
@@ -0,0 +1,94 @@
+package com.streamnz.practisee.controller;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.streamnz.practisee.model.dto.IngestResult;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventIngress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk upload for upstream gateways. The body is either a JSON array of events or NDJSON (one
+ * event per line) and is parsed incrementally with a streaming {@link JsonParser}, each event
+ * going to the {@link OutageEventIngress} as soon as it is read, so memory stays constant
+ * whatever the size of the upload.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:40
+ */
+@RestController
+@Slf4j
+@RequestMapping("/api/outage-events")
+public class OutageEventIngestController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final OutageEventIngress ingress;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader eventReader;
+
+    public OutageEventIngestController(OutageEventIngress ingress, ObjectMapper objectMapper) {
+        this.ingress = ingress;
+        this.objectMapper = objectMapper;
+        this.eventReader = objectMapper.readerFor(OutageEvent.class);
+    }
+
+    /**
+     * @param body
+     * @return 200 if every event was accepted, 429 if some were refused by backpressure, 400 if
+     * the body could not be parsed; the counts cover the events read before the error
+     * @throws IOException if reading the request fails
+     */
+    @PostMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    public ResponseEntity<IngestResult> ingest(InputStream body) throws IOException {
+        long accepted = 0;
+        long rejected = 0;
+        long failed = 0;
+        String error = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                OutageEvent event = eventReader.readValue(parser);
+                try {
+                    if (ingress.submit(event)) {
+                        accepted++;
+                    } else {
+                        rejected++;
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("OutageEventIngestController: Error submitting event {}: {}", event.getEventId(), e.getMessage());
+                }
+                token = parser.nextToken();
+            }
+            if (array && token == null) {
+                error = "Unexpected end of input, JSON array not closed";
+            }
+        } catch (JacksonException e) {
+            error = e.getOriginalMessage();
+            log.warn("OutageEventIngestController: Stopped upload after {} events: {}", accepted + rejected + failed, error);
+        }
+        IngestResult result = new IngestResult(accepted, rejected, failed, error);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.status(rejected > 0 ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,130 @@
+package com.streamnz.practisee.controller;
+
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.decorator.OutageHandlerDecorator;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runtime management of the handler and listener registries. Handlers and listeners are
+ * referenced by bean name, so anything registered here must already exist in the context,
+ * e.g. a prototype or a bean that is not picked up at startup.
+ * <p>
+ * The endpoints are unauthenticated, so the controller only exists when
+ * {@code registry.management.enabled=true}; expose it on a management network only.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:48
+ */
+@RestController
+@Slf4j
+@ConditionalOnProperty(name = "registry.management.enabled", havingValue = "true")
+@RequestMapping("/api/management/registry")
+public class RegistryManagementController {
+
+    private final HandlerRegister handlerRegister;
+
+    private final OutageEventListenerRegister listenerRegister;
+
+    private final ApplicationContext applicationContext;
+
+    public RegistryManagementController(HandlerRegister handlerRegister, OutageEventListenerRegister listenerRegister,
+                                        ApplicationContext applicationContext) {
+        this.handlerRegister = handlerRegister;
+        this.listenerRegister = listenerRegister;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * @return handler class simple name by type, beneath its decorators
+     */
+    @GetMapping("/handlers")
+    public Map<String, String> getHandlers() {
+        Map<String, String> handlers = new TreeMap<>();
+        handlerRegister.getHandlers().forEach((type, handler) -> handlers.put(type, OutageHandlerDecorator.handlerNameOf(handler)));
+        return handlers;
+    }
+
+    /**
+     * @param type a source system name
+     * @param bean name of an {@link OutageHandler} bean
+     * @return 200 once the handler was replaced, 400 if the type is not a source system, 404 if there is no such bean
+     */
+    @PutMapping("/handlers/{type}")
+    public ResponseEntity<Void> registerHandler(@PathVariable String type, @RequestParam String bean) {
+        OutageHandler handler;
+        try {
+            handler = applicationContext.getBean(bean, OutageHandler.class);
+        } catch (BeansException e) {
+            log.warn("RegistryManagementController: No OutageHandler bean {}: {}", bean, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            handlerRegister.register(type, handler);
+        } catch (IllegalArgumentException e) {
+            log.warn("RegistryManagementController: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * @return listener class names in registration order
+     */
+    @GetMapping("/listeners")
+    public List<String> getListeners() {
+        return listenerRegister.getListeners().stream().map(listener -> listener.getClass().getName()).toList();
+    }
+
+    /**
+     * @param bean name of an {@link OutageEventListener} bean
+     * @return 201 once registered, 200 if it already was, 404 if there is no such bean
+     */
+    @PutMapping("/listeners/{bean}")
+    public ResponseEntity<Void> registerListener(@PathVariable String bean) {
+        OutageEventListener listener = listenerBean(bean);
+        if (listener == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.status(listenerRegister.register(listener) ? HttpStatus.CREATED : HttpStatus.OK).build();
+    }
+
+    /**
+     * @param bean name of an {@link OutageEventListener} bean
+     * @return 204 once removed, 404 if there is no such bean or it was not registered
+     */
+    @DeleteMapping("/listeners/{bean}")
+    public ResponseEntity<Void> unregisterListener(@PathVariable String bean) {
+        OutageEventListener listener = listenerBean(bean);
+        if (listener == null || !listenerRegister.unregister(listener)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private OutageEventListener listenerBean(String bean) {
+        try {
+            return applicationContext.getBean(bean, OutageEventListener.class);
+        } catch (BeansException e) {
+            log.warn("RegistryManagementController: No OutageEventListener bean {}: {}", bean, e.getMessage());
+            return null;
+        }
+    }
+}
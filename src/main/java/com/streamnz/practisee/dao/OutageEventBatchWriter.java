@@ -0,0 +1,202 @@
+package com.streamnz.practisee.dao;
+
+import com.streamnz.practisee.config.PersistenceConfig;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects outage events into size- or time-bounded batches and writes each batch with a single
+ * JDBC batch insert in one transaction. Every submitted event gets a future that completes once
+ * its batch has committed.
+ * <p>
+ * Duplicates are expected: journal recovery, dead-letter replay and retries can all write an event
+ * that is already stored. When a batch fails it is rolled back and written again row by row, an
+ * eventId that is already present counts as written, and only the rows that still fail have their
+ * futures failed.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:11
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "persistence.batch.enabled", havingValue = "true")
+public class OutageEventBatchWriter {
+
+    static final String INSERT_SQL = "INSERT INTO outage_event "
+            + "(event_id, feeder_id, source_system, event_time, storm_level, is_critical, event_description, occurrences) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PersistenceConfig config;
+
+    private BlockingQueue<PendingWrite> pending;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public OutageEventBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  PersistenceConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = config;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (config.getBatchSize() <= 0 || config.getMaxDelayMillis() < 0 || config.getQueueCapacity() <= 0) {
+            throw new IllegalStateException("Invalid persistence.batch configuration");
+        }
+        pending = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        running = true;
+        flusher = new Thread(this::flushLoop, "outage-batch-writer");
+        flusher.start();
+        log.info("Started batch writer with batchSize={}, maxDelayMillis={}", config.getBatchSize(), config.getMaxDelayMillis());
+    }
+
+    /**
+     * Queue the event for the next batch, blocking while the queue is full.
+     * @param event
+     * @return completes when the batch holding the event has committed
+     */
+    public CompletableFuture<Void> submit(OutageEvent event) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("Batch writer is stopped"));
+            return future;
+        }
+        try {
+            pending.put(new PendingWrite(event, future));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingWrite first = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getMaxDelayMillis());
+                while (batch.size() < config.getBatchSize()) {
+                    // take whatever is already queued before waiting on the clock
+                    if (pending.drainTo(batch, config.getBatchSize() - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingWrite next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                if (running) {
+                    // nothing drains the queue after this, so stop accepting and fail what is queued
+                    running = false;
+                    Thread.currentThread().interrupt();
+                    pending.drainTo(batch);
+                    failAll(batch, e);
+                    return;
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, write) -> bind(ps, write.event())));
+        } catch (RuntimeException e) {
+            log.warn("OutageEventBatchWriter: Batch of {} events failed, writing them one by one: {}", batch.size(), e.getMessage());
+            flushRowByRow(batch);
+            return;
+        }
+        for (PendingWrite write : batch) {
+            write.future().complete(null);
+        }
+    }
+
+    private void flushRowByRow(List<PendingWrite> batch) {
+        int failed = 0;
+        for (PendingWrite write : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, write.event()));
+                write.future().complete(null);
+            } catch (DuplicateKeyException e) {
+                // already stored by an earlier attempt
+                write.future().complete(null);
+            } catch (RuntimeException e) {
+                failed++;
+                write.future().completeExceptionally(e);
+            }
+        }
+        if (failed > 0) {
+            log.error("OutageEventBatchWriter: Failed to write {} of {} events", failed, batch.size());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, OutageEvent event) throws SQLException {
+        ps.setString(1, event.getEventId());
+        ps.setString(2, event.getFeederId());
+        ps.setString(3, event.getSourceSystem().getName());
+        ps.setTimestamp(4, Timestamp.from(event.getEventTime()));
+        ps.setInt(5, event.getStormLevel());
+        ps.setBoolean(6, event.isCritical());
+        if (event.getEventDescription() == null) {
+            ps.setNull(7, Types.VARCHAR);
+        } else {
+            ps.setString(7, event.getEventDescription());
+        }
+        ps.setInt(8, event.getOccurrences());
+    }
+
+    private static void failAll(List<PendingWrite> batch, Throwable cause) {
+        for (PendingWrite write : batch) {
+            write.future().completeExceptionally(cause);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(SHUTDOWN_TIMEOUT_MS);
+    }
+
+    private record PendingWrite(OutageEvent event, CompletableFuture<Void> future) {
+    }
+}
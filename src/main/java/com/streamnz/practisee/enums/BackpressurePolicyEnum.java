@@ -0,0 +1,15 @@
+package com.streamnz.practisee.enums;
+
+/**
+ * What the ingestion pipeline does with a new event when its buffer is full.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:08
+ */
+public enum BackpressurePolicyEnum {
+    // producer waits until a worker frees a slot
+    BLOCK,
+    // oldest buffered event is discarded to make room
+    DROP_OLDEST,
+    // new event is refused and counted
+    REJECT
+}
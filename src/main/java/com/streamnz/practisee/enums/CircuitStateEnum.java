@@ -0,0 +1,14 @@
+package com.streamnz.practisee.enums;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:29
+ */
+public enum CircuitStateEnum {
+    // calls pass, failures are counted
+    CLOSED,
+    // calls fail fast with OutageCircuitOpenException
+    OPEN,
+    // a few probe calls decide between CLOSED and OPEN
+    HALF_OPEN
+}
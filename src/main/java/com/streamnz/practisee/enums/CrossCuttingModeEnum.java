@@ -0,0 +1,13 @@
+package com.streamnz.practisee.enums;
+
+/**
+ * How retry and telemetry are applied to the handlers.
+ * @Author cheng hao
+ * @Date 17/10/2026 03:00
+ */
+public enum CrossCuttingModeEnum {
+    // the decorator chain built by DecoratorFactory, one direct call per layer
+    DECORATOR,
+    // RetryAspect and TelemetryAspect on Spring AOP proxies
+    AOP
+}
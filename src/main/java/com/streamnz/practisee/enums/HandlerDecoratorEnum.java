@@ -0,0 +1,12 @@
+package com.streamnz.practisee.enums;
+
+/**
+ * Layers of the handler decorator chain, see {@code handler.chain}.
+ * @Author cheng hao
+ * @Date 17/10/2026 03:00
+ */
+public enum HandlerDecoratorEnum {
+    TELEMETRY,
+    RETRY,
+    CIRCUIT_BREAKER
+}
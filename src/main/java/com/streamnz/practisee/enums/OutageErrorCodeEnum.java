@@ -0,0 +1,22 @@
+package com.streamnz.practisee.enums;
+
+import lombok.Getter;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:51
+ */
+@Getter
+public enum OutageErrorCodeEnum {
+    VALIDATION_FAILED("OUT-100"),
+    HANDLE_FAILED("OUT-200"),
+    MAX_RETRIES_EXCEEDED("OUT-201"),
+    CIRCUIT_OPEN("OUT-202"),
+    PUBLISH_FAILED("OUT-300");
+
+    private final String code;
+
+    OutageErrorCodeEnum(String code) {
+        this.code = code;
+    }
+}
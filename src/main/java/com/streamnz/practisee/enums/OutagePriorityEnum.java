@@ -0,0 +1,25 @@
+package com.streamnz.practisee.enums;
+
+import com.streamnz.practisee.model.dto.OutageEvent;
+
+/**
+ * Processing priority of an outage event, highest first.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:18
+ */
+public enum OutagePriorityEnum {
+    // critical need immediate attention
+    CRITICAL,
+    // severe storm
+    HIGH,
+    ROUTINE;
+
+    public static final int HIGH_STORM_LEVEL = 8;
+
+    public static OutagePriorityEnum of(OutageEvent event) {
+        if (event.isCritical()) {
+            return CRITICAL;
+        }
+        return event.getStormLevel() >= HIGH_STORM_LEVEL ? HIGH : ROUTINE;
+    }
+}
@@ -0,0 +1,12 @@
+package com.streamnz.practisee.enums;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:27
+ */
+public enum RetryModeEnum {
+    // retry in a loop on the handling thread
+    INLINE,
+    // reschedule failed events with backoff, freeing the handling thread between attempts
+    SCHEDULED
+}
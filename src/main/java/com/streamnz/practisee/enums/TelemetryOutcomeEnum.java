@@ -0,0 +1,10 @@
+package com.streamnz.practisee.enums;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:20
+ */
+public enum TelemetryOutcomeEnum {
+    SUCCESS,
+    FAILURE
+}
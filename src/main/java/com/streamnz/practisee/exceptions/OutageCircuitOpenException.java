@@ -0,0 +1,20 @@
+package com.streamnz.practisee.exceptions;
+
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
+
+/**
+ * The handler's circuit is open or its bulkhead is full, the event was not handled. Not retried,
+ * the event goes straight to the dead-letter queue.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:29
+ */
+public class OutageCircuitOpenException extends OutageStacklessException {
+
+    public OutageCircuitOpenException(String message, String eventId) {
+        this(message, eventId, null);
+    }
+
+    public OutageCircuitOpenException(String message, String eventId, Throwable cause) {
+        super(OutageErrorCodeEnum.CIRCUIT_OPEN, message, eventId, cause);
+    }
+}
@@ -1,13 +1,14 @@
 package com.streamnz.practisee.exceptions;
 
-import lombok.ToString;
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
 
-@ToString
-public class OutageEventPublishException extends RuntimeException {
-    private String eventId = "N/A";
+public class OutageEventPublishException extends OutageStacklessException {
 
     public OutageEventPublishException(String message, String eventId) {
-        super(message);
-        this.eventId = eventId;
+        this(message, eventId, null);
+    }
+
+    public OutageEventPublishException(String message, String eventId, Throwable cause) {
+        super(OutageErrorCodeEnum.PUBLISH_FAILED, message, eventId, cause);
     }
 }
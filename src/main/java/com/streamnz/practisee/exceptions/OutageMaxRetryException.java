@@ -1,16 +1,14 @@
 package com.streamnz.practisee.exceptions;
 
-import lombok.ToString;
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
 
-@ToString
-public class OutageMaxRetryException extends RuntimeException {
+public class OutageMaxRetryException extends OutageStacklessException {
 
-    private String errorMessage = "Maximum retry attempts exceeded.";
-    private String eventId = "N/A"; // You can set this to a specific
+    public OutageMaxRetryException(String message, String eventId) {
+        this(message, eventId, null);
+    }
 
-    public OutageMaxRetryException(String errorMessage, String eventId) {
-        super("Maximum retry attempts exceeded.");
-        this.errorMessage = errorMessage;
-        this.eventId = eventId;
+    public OutageMaxRetryException(String message, String eventId, Throwable cause) {
+        super(OutageErrorCodeEnum.MAX_RETRIES_EXCEEDED, message, eventId, cause);
     }
 }
@@ -0,0 +1,31 @@
+package com.streamnz.practisee.exceptions;
+
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
+import lombok.Getter;
+
+/**
+ * Base of the exceptions the handler chain throws for an expected per-event failure. They skip
+ * {@code fillInStackTrace}, which is most of the cost of an exception, and identify the failure
+ * by error code and event id instead; the underlying failure, if any, is kept as the cause with
+ * its own stack trace.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:51
+ */
+@Getter
+public abstract class OutageStacklessException extends RuntimeException {
+
+    private final OutageErrorCodeEnum errorCode;
+
+    private final String eventId;
+
+    protected OutageStacklessException(OutageErrorCodeEnum errorCode, String message, String eventId, Throwable cause) {
+        super(message, cause, false, false);
+        this.errorCode = errorCode;
+        this.eventId = eventId == null ? "N/A" : eventId;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(errorCode=" + errorCode.getCode() + ", eventId=" + eventId + ", message=" + getMessage() + ")";
+    }
+}
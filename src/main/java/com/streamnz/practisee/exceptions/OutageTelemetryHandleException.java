@@ -1,14 +1,14 @@
 package com.streamnz.practisee.exceptions;
 
-import lombok.ToString;
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
 
-@ToString
-public class OutageTelemetryHandleException extends RuntimeException {
-
-    private String eventId = "N/A"; // You can set this to a specific event ID if available
+public class OutageTelemetryHandleException extends OutageStacklessException {
 
     public OutageTelemetryHandleException(String message, String eventId) {
-      super(message);
-      this.eventId = eventId;
+        this(message, eventId, null);
+    }
+
+    public OutageTelemetryHandleException(String message, String eventId, Throwable cause) {
+        super(OutageErrorCodeEnum.HANDLE_FAILED, message, eventId, cause);
     }
 }
@@ -0,0 +1,19 @@
+package com.streamnz.practisee.exceptions;
+
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
+
+/**
+ * The event itself is invalid, retrying it can never succeed.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:27
+ */
+public class OutageValidationException extends OutageStacklessException {
+
+    public OutageValidationException(String message, String eventId) {
+        this(message, eventId, null);
+    }
+
+    public OutageValidationException(String message, String eventId, Throwable cause) {
+        super(OutageErrorCodeEnum.VALIDATION_FAILED, message, eventId, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.streamnz.practisee.model.dto;
+
+/**
+ * An event that failed processing, as stored in the dead-letter queue.
+ * @param offset position in the dead-letter log
+ * @param failedAtMillis
+ * @param reason exception type and message of the final failure
+ * @param event
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+public record DeadLetter(long offset, long failedAtMillis, String reason, OutageEvent event) {
+}
@@ -0,0 +1,11 @@
+package com.streamnz.practisee.model.dto;
+
+/**
+ * @param replayed entries handled successfully
+ * @param failed entries that failed again and were dead-lettered anew
+ * @param nextOffset where the next replay should start
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+public record DeadLetterReplayResult(int replayed, int failed, long nextOffset) {
+}
@@ -0,0 +1,13 @@
+package com.streamnz.practisee.model.dto;
+
+/**
+ * Outcome of a bulk upload, events before a parse error have already been submitted.
+ * @param accepted events taken by the ingress
+ * @param rejected events refused because of backpressure
+ * @param failed events whose processing threw on the caller's thread
+ * @param error parse error that stopped the upload, null if the whole body was read
+ * @Author cheng hao
+ * @Date 17/10/2026 02:40
+ */
+public record IngestResult(long accepted, long rejected, long failed, String error) {
+}
@@ -0,0 +1,9 @@
+package com.streamnz.practisee.model.dto;
+
+/**
+ * Point-in-time latency percentiles of one handler and outcome, all values in nanoseconds.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:20
+ */
+public record LatencySnapshot(long count, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos, long meanNanos) {
+}
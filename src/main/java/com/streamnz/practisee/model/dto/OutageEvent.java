@@ -1,6 +1,10 @@
 package com.streamnz.practisee.model.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.streamnz.practisee.codec.EventTimeDeserializer;
+import com.streamnz.practisee.enums.OutagePriorityEnum;
 import com.streamnz.practisee.enums.SourceSystemEnum;
 import lombok.*;
 
@@ -16,16 +20,25 @@ import java.time.Instant;
 @ToString
 public class OutageEvent {
 
-    // idempotent event ID from  todo distributed snowflakeId
+    // idempotent event ID, upstream string or rendered from numericEventId
     private String eventId;
 
+    // snowflake id of internally generated events, 0 when the id came from upstream
+    @JsonIgnore
+    private long numericEventId;
+
     // 可选属性，有合理的默认值
     private String eventDescription;
 
+    // feeder / asset the event was raised for, optional
+    private String feederId;
+
     // SCADA, EMS, DMS
     private SourceSystemEnum sourceSystem;
 
+    // parsed by hand on the fast path, the pattern still drives serialization and the fallback
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "UTC")
+    @JsonDeserialize(using = EventTimeDeserializer.class)
     private Instant eventTime;
 
     // 0-10 high number means severe storm
@@ -36,6 +49,12 @@ public class OutageEvent {
     // 可选属性，有合理的默认值
     private boolean isCritical;
 
+    // derived from isCritical and stormLevel, see OutagePriorityEnum.of
+    private OutagePriorityEnum priority;
+
+    // upstream events this one stands for, for a consolidated event the repeats coalesced into it
+    private int occurrences = 1;
+
     // other fields omitted for brevity
 
     public OutageEvent(String eventId, SourceSystemEnum sourceSystem, Instant eventTime) {
@@ -43,4 +62,35 @@ public class OutageEvent {
         this.sourceSystem = sourceSystem;
         this.eventTime = eventTime;
     }
+
+    public OutageEvent(long numericEventId, SourceSystemEnum sourceSystem, Instant eventTime) {
+        this.numericEventId = numericEventId;
+        this.sourceSystem = sourceSystem;
+        this.eventTime = eventTime;
+    }
+
+    /**
+     * Rendered on first use so the hot path can carry the snowflake id as a primitive.
+     * @return
+     */
+    public String getEventId() {
+        if (eventId == null && numericEventId != 0) {
+            eventId = Long.toString(numericEventId);
+        }
+        return eventId;
+    }
+
+    @JsonIgnore
+    public boolean hasEventId() {
+        return eventId != null || numericEventId != 0;
+    }
+
+    /**
+     * Key that must be processed in order: the feeder when known, otherwise the event itself.
+     * @return
+     */
+    @JsonIgnore
+    public String getRoutingKey() {
+        return feederId != null ? feederId : getEventId();
+    }
 }
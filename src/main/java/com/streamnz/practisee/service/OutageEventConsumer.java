@@ -1,13 +1,29 @@
 package com.streamnz.practisee.service;
 
+import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.enums.RetryModeEnum;
 import com.streamnz.practisee.exceptions.OutageProcessingException;
 import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.coalesce.OutageEventCoalescer;
+import com.streamnz.practisee.service.dedup.OutageEventDeduplicator;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
 import com.streamnz.practisee.service.handler.HandlerRegister;
 import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.retry.RetryPolicy;
+import com.streamnz.practisee.service.handler.retry.RetryScheduler;
+import com.streamnz.practisee.service.id.SnowflakeIdGenerator;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import com.streamnz.practisee.service.telemetry.OutageEventTracer;
+import com.streamnz.practisee.service.wal.OutageEventJournal;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * @Author cheng hao
  * @Date 06/10/2025 16:28
@@ -17,18 +33,160 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OutageEventConsumer {
 
+    private static final long NOT_JOURNALED = -1;
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
     private final HandlerRegister handlerRegister;
 
+    private final OutageEventDeduplicator deduplicator;
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    private final DecoratorConfig retryConfig;
+
+    private final RetryScheduler retryScheduler;
+
+    private final OutageEventTracer tracer;
+
+    // only present when dlq.enabled=true
+    private final ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+
+    private OutageDeadLetterQueue deadLetterQueue;
+
+    // only present when wal.enabled=true
+    private final ObjectProvider<OutageEventJournal> journalProvider;
+
+    private OutageEventJournal journal;
+
+    // only present when coalesce.enabled=true
+    private final ObjectProvider<OutageEventCoalescer> coalescerProvider;
+
+    private OutageEventCoalescer coalescer;
+
+    @PostConstruct
+    public void init() {
+        deadLetterQueue = deadLetterQueueProvider.getIfAvailable();
+        journal = journalProvider.getIfAvailable();
+        coalescer = coalescerProvider.getIfAvailable();
+    }
+
     public void consume(OutageEvent event) {
-        log.info("OutageEventConsumer: Received event - " + event);
-        OutageHandler handler = handlerRegister.getHandler(event.getSourceSystem().getName());
+        if (!event.hasEventId()) {
+            event.setNumericEventId(idGenerator.nextId());
+        }
+        if (deduplicator.isDuplicate(event)) {
+            log.debug("OutageEventConsumer: Dropping duplicate event {}", event.getEventId());
+            return;
+        }
+        // journaled first, an absorbed repeat stays in flight until its consolidated event completes
+        long journalOffset = journal != null ? journal.append(event) : NOT_JOURNALED;
+        if (coalescer != null && coalescer.offer(event, journalOffset)) {
+            log.debug("OutageEventConsumer: Coalesced event {} for feeder {}", event.getEventId(), event.getFeederId());
+            return;
+        }
+        dispatch(event, journalOffset);
+    }
+
+    /**
+     * Re-dispatch an event that was journaled but not checkpointed before the last shutdown.
+     * @param event
+     * @param journalOffset
+     */
+    public void consumeRecovered(OutageEvent event, long journalOffset) {
+        if (deduplicator.isDuplicate(event)) {
+            complete(event, journalOffset, false);
+            return;
+        }
+        dispatch(event, journalOffset);
+    }
+
+    private void dispatch(OutageEvent event, long journalOffset) {
+        long start = System.nanoTime();
+        OutageHandler handler = null;
+        CompletableFuture<Void> persisted;
         try {
-            handler.handle(event);
+            // inside the try: the event is already journaled, a lookup failure must still complete it
+            handler = handlerRegister.getHandler(event.getSourceSystem());
+            persisted = handler.handle(event);
         } catch (OutageProcessingException e) {
-            log.error("OutageEventConsumer: Error processing event {}: {}", event.getEventId(), e.getMessage(), e);
-            // Additional error handling logic can be added here
-            // todo dead letter queue, alerting, etc.
-            // todo record to database for further investigation
+            if (!scheduleRetry(event, handler, e, journalOffset, start)) {
+                onFailure(event, e, journalOffset, start);
+            }
+            return;
+        } catch (RuntimeException e) {
+            if (!scheduleRetry(event, handler, e, journalOffset, start)) {
+                deduplicator.forget(event);
+                deadLetter(event, e);
+                complete(event, journalOffset, true);
+                tracer.trace(event, start, e);
+                throw e;
+            }
+            return;
+        }
+        // the worker moves on to the next event, the offset is completed once the write has committed
+        OutageHandler persistingHandler = handler;
+        persisted.whenComplete((ignored, error) -> {
+            if (error == null) {
+                complete(event, journalOffset, false);
+                tracer.trace(event, start, null);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (!scheduleRetry(event, persistingHandler, cause, journalOffset, start)) {
+                onFailure(event, cause, journalOffset, start);
+            }
+        });
+    }
+
+    /**
+     * In scheduled mode hand the event to the {@link RetryScheduler} and return straight away, the
+     * outcome is reported when the retries settle.
+     * @return false if the failure should be handled on this thread, always for non-retryable failures
+     */
+    private boolean scheduleRetry(OutageEvent event, OutageHandler handler, Throwable failure, long journalOffset, long start) {
+        if (handler == null || !retryConfig.isRetryEnabled() || retryConfig.getRetryMode() != RetryModeEnum.SCHEDULED
+                || !RetryPolicy.isRetryable(failure)) {
+            return false;
+        }
+        retryScheduler.retry(event, handler, failure).whenComplete((ignored, error) -> {
+            if (error != null) {
+                onFailure(event, error, journalOffset, start);
+            } else {
+                complete(event, journalOffset, false);
+                tracer.trace(event, start, null);
+            }
+        });
+        return true;
+    }
+
+    private void onFailure(OutageEvent event, Throwable e, long journalOffset, long start) {
+        // let an upstream redelivery of a failed event through again
+        deduplicator.forget(event);
+        if (FAILURE_LOG.tryAcquire()) {
+            log.error("OutageEventConsumer: Error processing event {}, {} similar failures not logged: {}",
+                    event.getEventId(), FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+        }
+        deadLetter(event, e);
+        complete(event, journalOffset, true);
+        tracer.trace(event, start, e);
+        // todo alerting
+    }
+
+    // persisted, or dead-lettered and logged, either way the journal no longer needs it
+    private void complete(OutageEvent event, long journalOffset, boolean failed) {
+        if (journalOffset != NOT_JOURNALED) {
+            journal.complete(journalOffset);
+        }
+        // releases the repeats a consolidated event stands for
+        if (coalescer != null) {
+            coalescer.settle(event, failed);
+        }
+    }
+
+    private void deadLetter(OutageEvent event, Throwable e) {
+        if (deadLetterQueue != null) {
+            deadLetterQueue.append(event, e);
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.streamnz.practisee.service;
+
+import com.streamnz.practisee.model.dto.OutageEvent;
+
+/**
+ * Front door for upstream producers, selected by {@code ingress.mode}.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:08
+ */
+public interface OutageEventIngress {
+    /**
+     * Accept the outage event for processing by {@link OutageEventConsumer}.
+     * @param event
+     * @return false if the event was refused because of backpressure
+     */
+    boolean submit(OutageEvent event);
+}
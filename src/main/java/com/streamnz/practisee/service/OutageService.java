@@ -2,6 +2,8 @@ package com.streamnz.practisee.service;
 
 import com.streamnz.practisee.model.dto.OutageEvent;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @Author cheng hao
  * @Date 06/10/2025 19:39
@@ -12,4 +14,11 @@ public interface OutageService {
      * @param event
      */
     void saveEvent(OutageEvent event);
+
+    /**
+     * Save the outage event without waiting for the database.
+     * @param event
+     * @return completes once the event has been committed
+     */
+    CompletableFuture<Void> saveEventAsync(OutageEvent event);
 }
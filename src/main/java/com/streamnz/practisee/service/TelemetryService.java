@@ -1,8 +1,31 @@
 package com.streamnz.practisee.service;
 
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.model.dto.LatencySnapshot;
+import com.streamnz.practisee.service.telemetry.HandlerTelemetry;
+
+import java.util.Set;
+
 /**
  * @Author cheng hao
  * @Date 06/10/2025 20:29
  */
 public interface TelemetryService {
+
+    /**
+     * Latency recorder of the handler, created on first use.
+     * @param handlerName
+     * @return
+     */
+    HandlerTelemetry forHandler(String handlerName);
+
+    /**
+     * Current latency percentiles of the handler for the outcome.
+     * @param handlerName
+     * @param outcome
+     * @return an empty snapshot if the handler never recorded anything
+     */
+    LatencySnapshot getSnapshot(String handlerName, TelemetryOutcomeEnum outcome);
+
+    Set<String> getHandlerNames();
 }
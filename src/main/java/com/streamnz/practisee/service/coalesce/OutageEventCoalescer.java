@@ -0,0 +1,407 @@
+package com.streamnz.practisee.service.coalesce;
+
+import com.streamnz.practisee.config.CoalesceConfig;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventIngress;
+import com.streamnz.practisee.service.dedup.OutageEventDeduplicator;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.id.SnowflakeIdGenerator;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import com.streamnz.practisee.service.wal.OutageEventJournal;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges repeated events for the same source system and feeder, e.g. SCADA reporting one trip
+ * dozens of times a second during a storm.
+ * <p>
+ * The first event for a feeder passes straight through and opens a window of
+ * {@code coalesce.windowMillis}. Repeats within the window are absorbed into it. When the window
+ * closes, one consolidated event for the absorbed repeats is submitted through the active
+ * {@link OutageEventIngress}: their highest storm level and how many there were, the leading event
+ * has already been saved on its own. It goes through the same lanes, priorities and backpressure
+ * as upstream events and is never coalesced again. Listeners and the database see at most two
+ * events per feeder and window however many were reported. Critical events are never held back,
+ * they pass straight through and neither open nor join a window.
+ * <p>
+ * The consumer journals every event before offering it here. An absorbed repeat stays in flight
+ * in the journal until the consolidated event standing for it has been persisted or has failed,
+ * so after a crash it is replayed on its own. If the consolidated event fails, or the ingress
+ * refuses it and it is dead-lettered here, the absorbed repeats are forgotten by the deduplicator
+ * so an upstream redelivery gets through again.
+ * <p>
+ * Windows live in a fixed 8-way set-associative table of primitive arrays guarded by striped
+ * locks, like {@link com.streamnz.practisee.service.dedup.OutageEventDeduplicator}. An event that
+ * finds its set full of open windows is not coalesced, so the number of windows stays bounded
+ * whatever the surge; each one holds a reference and a journal offset per absorbed repeat until
+ * its consolidated event settles.
+ * <p>
+ * The final flush runs as a {@link SmartLifecycle} stop, after the web server has stopped taking
+ * events and before any ingress, journal or writer is destroyed; events arriving after it pass
+ * straight through.
+ * @Author cheng hao
+ * @Date 17/10/2026 03:12
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coalesce.enabled", havingValue = "true")
+public class OutageEventCoalescer implements SmartLifecycle {
+
+    private static final int WAYS = 8;
+    private static final int STRIPES = 64;
+    // stopped after the web server (DEFAULT_PHASE - 2048) so nothing is coalesced after the last flush
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
+    private final CoalesceConfig config;
+
+    // the ingress depends on the consumer, which depends on this; resolved on first use
+    private final ObjectProvider<OutageEventIngress> ingressProvider;
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    private final OutageEventDeduplicator deduplicator;
+
+    // only present when wal.enabled=true
+    private final ObjectProvider<OutageEventJournal> journalProvider;
+
+    private OutageEventJournal journal;
+
+    // only present when dlq.enabled=true
+    private final ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+
+    private OutageDeadLetterQueue deadLetterQueue;
+
+    // repeats of consolidated events not yet persisted, by the consolidated event id
+    private final ConcurrentHashMap<Long, Repeats> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder absorbed = new LongAdder();
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    private final Object[] locks = new Object[STRIPES];
+    // per slot; a null event marks a free slot, otherwise the latest event of the window
+    private OutageEvent[] events;
+    private int[] keyHashes;
+    private long[] windowEnds;
+    // null until the first repeat is absorbed
+    private Repeats[] repeats;
+    private int setMask;
+    private long windowNanos;
+
+    private ScheduledExecutorService flusher;
+    private volatile OutageEventIngress ingress;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    public void init() {
+        int slots = Integer.highestOneBit(Math.max(config.getCapacity(), WAYS) - 1) << 1;
+        events = new OutageEvent[slots];
+        keyHashes = new int[slots];
+        windowEnds = new long[slots];
+        repeats = new Repeats[slots];
+        setMask = slots / WAYS - 1;
+        windowNanos = TimeUnit.MILLISECONDS.toNanos(config.getWindowMillis());
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        journal = journalProvider.getIfAvailable();
+        deadLetterQueue = deadLetterQueueProvider.getIfAvailable();
+    }
+
+    /**
+     * Start closing windows on a timer.
+     */
+    @Override
+    public void start() {
+        long intervalMillis = Math.max(1, config.getWindowMillis() / 4);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outage-coalesce-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleAtFixedRate(() -> flushExpired(System.nanoTime()), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Coalescing events per feeder with a {} ms window and {} slots", config.getWindowMillis(), events.length);
+    }
+
+    /**
+     * Stop coalescing and close every open window rather than losing its repeats.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        flush(0, true);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public boolean offer(OutageEvent event, long journalOffset) {
+        return offer(event, journalOffset, System.nanoTime());
+    }
+
+    /**
+     * @param event
+     * @param journalOffset where the event was journaled, completed once its consolidated event is
+     * @param now {@link System#nanoTime()}
+     * @return true if the event was absorbed into an open window and must not be dispatched
+     */
+    public boolean offer(OutageEvent event, long journalOffset, long now) {
+        String feederId = event.getFeederId();
+        if (stopped || feederId == null || event.getSourceSystem() == null || event.isCritical()) {
+            return false;
+        }
+        // a consolidated event coming back through the ingress must not open a window of its own
+        if (!pending.isEmpty() && pending.containsKey(event.getNumericEventId())) {
+            return false;
+        }
+        int keyHash = keyHash(event);
+        int set = keyHash & setMask;
+        int base = set * WAYS;
+        OutageEvent closed = null;
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int free = -1;
+            int expired = -1;
+            for (int slot = base; slot < base + WAYS; slot++) {
+                OutageEvent current = events[slot];
+                if (current == null) {
+                    free = free < 0 ? slot : free;
+                    continue;
+                }
+                boolean open = now - windowEnds[slot] < 0;
+                if (keyHashes[slot] == keyHash && current.getSourceSystem() == event.getSourceSystem()
+                        && feederId.equals(current.getFeederId())) {
+                    if (open) {
+                        absorb(slot, event, journalOffset);
+                        return true;
+                    }
+                    // the same feeder's window has ended but the flusher has not got to it yet
+                    expired = slot;
+                    free = -1;
+                    break;
+                }
+                if (!open && expired < 0) {
+                    expired = slot;
+                }
+            }
+            int target = free;
+            if (target < 0 && expired >= 0) {
+                closed = close(expired);
+                target = expired;
+            }
+            if (target < 0) {
+                overflows.increment();
+            } else {
+                events[target] = event;
+                keyHashes[target] = keyHash;
+                windowEnds[target] = now + windowNanos;
+            }
+        }
+        if (closed != null) {
+            emit(closed);
+        }
+        return false;
+    }
+
+    private void absorb(int slot, OutageEvent event, long journalOffset) {
+        events[slot] = event;
+        if (repeats[slot] == null) {
+            repeats[slot] = new Repeats();
+        }
+        repeats[slot].add(event, journalOffset);
+        absorbed.increment();
+    }
+
+    /**
+     * Free the slot.
+     * @return the consolidated event of the window, null if nothing was absorbed into it
+     */
+    private OutageEvent close(int slot) {
+        OutageEvent latest = events[slot];
+        Repeats absorbedRepeats = repeats[slot];
+        events[slot] = null;
+        repeats[slot] = null;
+        if (absorbedRepeats == null) {
+            return null;
+        }
+        OutageEvent consolidated = new OutageEvent();
+        consolidated.setNumericEventId(idGenerator.nextId());
+        consolidated.setSourceSystem(latest.getSourceSystem());
+        consolidated.setFeederId(latest.getFeederId());
+        consolidated.setEventTime(latest.getEventTime());
+        consolidated.setEventDescription(latest.getEventDescription());
+        consolidated.setStormLevel(absorbedRepeats.maxStormLevel);
+        consolidated.setOccurrences(absorbedRepeats.count);
+        pending.put(consolidated.getNumericEventId(), absorbedRepeats);
+        return consolidated;
+    }
+
+    /**
+     * Called by the consumer once an event has been persisted or has failed. For a consolidated
+     * event, complete the journal offsets of its repeats and, if it failed, forget them in the
+     * deduplicator; nothing to do for any other event.
+     * @param event
+     * @param failed
+     */
+    public void settle(OutageEvent event, boolean failed) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Repeats settled = pending.remove(event.getNumericEventId());
+        if (settled != null) {
+            release(settled, failed);
+        }
+    }
+
+    private void release(Repeats settled, boolean failed) {
+        for (int i = 0; i < settled.count; i++) {
+            if (failed) {
+                deduplicator.forget(settled.events[i]);
+            }
+            if (journal != null) {
+                journal.complete(settled.journalOffsets[i]);
+            }
+        }
+    }
+
+    /**
+     * Close the windows that ended before {@code now} and emit their consolidated events.
+     * @param now {@link System#nanoTime()}
+     */
+    public void flushExpired(long now) {
+        flush(now, false);
+    }
+
+    private void flush(long now, boolean all) {
+        List<OutageEvent> closed = new ArrayList<>();
+        for (int set = 0; set <= setMask; set++) {
+            int base = set * WAYS;
+            synchronized (locks[set & (STRIPES - 1)]) {
+                for (int slot = base; slot < base + WAYS; slot++) {
+                    if (events[slot] != null && (all || now - windowEnds[slot] >= 0)) {
+                        OutageEvent consolidated = close(slot);
+                        if (consolidated != null) {
+                            closed.add(consolidated);
+                        }
+                    }
+                }
+            }
+            if (!closed.isEmpty()) {
+                closed.forEach(this::emit);
+                closed.clear();
+            }
+        }
+    }
+
+    private void emit(OutageEvent consolidated) {
+        emitted.increment();
+        if (ingress == null) {
+            ingress = ingressProvider.getIfAvailable();
+        }
+        Throwable failure;
+        try {
+            if (ingress != null && ingress.submit(consolidated)) {
+                return;
+            }
+            refused.increment();
+            failure = new OutageProcessingException("Ingress refused consolidated event", consolidated.getEventId());
+        } catch (RuntimeException e) {
+            // must not stop the flusher
+            failure = e;
+        }
+        // with a direct ingress it was processed inline, the consumer has dead-lettered and settled it
+        Repeats unsettled = pending.remove(consolidated.getNumericEventId());
+        if (unsettled == null) {
+            return;
+        }
+        if (FAILURE_LOG.tryAcquire()) {
+            log.error("OutageEventCoalescer: Error submitting consolidated event for feeder {}, {} similar failures not logged: {}",
+                    consolidated.getFeederId(), FAILURE_LOG.takeSuppressed(), failure.getMessage());
+        }
+        if (deadLetterQueue != null) {
+            deadLetterQueue.append(consolidated, failure);
+        }
+        release(unsettled, true);
+    }
+
+    private static int keyHash(OutageEvent event) {
+        int h = event.getFeederId().hashCode() * 31 + event.getSourceSystem().ordinal();
+        // murmur3 finaliser, String.hashCode alone clusters similar feeder ids into few sets
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    public long getAbsorbedCount() {
+        return absorbed.sum();
+    }
+
+    public long getEmittedCount() {
+        return emitted.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    public long getRefusedCount() {
+        return refused.sum();
+    }
+
+    // journal offsets and events of the repeats absorbed into one window
+    private static final class Repeats {
+
+        private long[] journalOffsets = new long[4];
+        private OutageEvent[] events = new OutageEvent[4];
+        private int count;
+        private int maxStormLevel;
+
+        private void add(OutageEvent event, long journalOffset) {
+            if (count == events.length) {
+                journalOffsets = Arrays.copyOf(journalOffsets, count * 2);
+                events = Arrays.copyOf(events, count * 2);
+            }
+            journalOffsets[count] = journalOffset;
+            events[count] = event;
+            maxStormLevel = count == 0 ? event.getStormLevel() : Math.max(maxStormLevel, event.getStormLevel());
+            count++;
+        }
+    }
+}
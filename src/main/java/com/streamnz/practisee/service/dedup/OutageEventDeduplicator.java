@@ -0,0 +1,179 @@
+package com.streamnz.practisee.service.dedup;
+
+import com.streamnz.practisee.config.DedupConfig;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers recently seen eventIds so upstream redeliveries are dropped before dispatch.
+ * <p>
+ * Entries live in a fixed 4-way set-associative table of 64-bit fingerprints guarded by striped
+ * locks: a lookup hashes the eventId in place, scans one set and never allocates. When a set is
+ * full the oldest entry is evicted, so memory stays bounded whatever the event rate.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:13
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OutageEventDeduplicator {
+
+    private static final int WAYS = 4;
+    private static final int STRIPES = 64;
+    private static final long EMPTY = 0L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final DedupConfig config;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Object[] locks = new Object[STRIPES];
+    private long[] fingerprints;
+    private long[] seenAt;
+    private int setMask;
+    private long ttlNanos;
+
+    @PostConstruct
+    public void init() {
+        int slots = Integer.highestOneBit(Math.max(config.getCapacity(), WAYS) - 1) << 1;
+        fingerprints = new long[slots];
+        seenAt = new long[slots];
+        setMask = slots / WAYS - 1;
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(config.getTtlMillis());
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        log.info("Initialised eventId dedup cache with {} slots, ttl={}ms, enabled={}",
+                fingerprints.length, config.getTtlMillis(), config.isEnabled());
+    }
+
+    /**
+     * Record the event as seen.
+     * @param event
+     * @return true if the same eventId was already seen within the TTL
+     */
+    public boolean isDuplicate(OutageEvent event) {
+        if (!config.isEnabled() || !event.hasEventId()) {
+            return false;
+        }
+        long fingerprint = fingerprint(event);
+        int set = (int) (fingerprint >>> 32) & setMask;
+        int base = set * WAYS;
+        long now = System.nanoTime();
+        synchronized (locks[set & (STRIPES - 1)]) {
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (fingerprints[slot] == fingerprint && now - seenAt[slot] < ttlNanos) {
+                    hits.increment();
+                    return true;
+                }
+            }
+            int victim = base;
+            for (int slot = base; slot < base + WAYS; slot++) {
+                long current = fingerprints[slot];
+                if (current == EMPTY || now - seenAt[slot] >= ttlNanos) {
+                    // free or expired: reuse without evicting a live entry
+                    fingerprints[slot] = EMPTY;
+                    victim = slot;
+                    break;
+                }
+                if (seenAt[slot] - seenAt[victim] < 0) {
+                    victim = slot;
+                }
+            }
+            if (fingerprints[victim] != EMPTY) {
+                evictions.increment();
+            }
+            fingerprints[victim] = fingerprint;
+            seenAt[victim] = now;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Forget the event, e.g. after processing failed so a redelivery is handled again.
+     * @param event
+     */
+    public void forget(OutageEvent event) {
+        if (!config.isEnabled() || !event.hasEventId()) {
+            return;
+        }
+        long fingerprint = fingerprint(event);
+        int set = (int) (fingerprint >>> 32) & setMask;
+        int base = set * WAYS;
+        synchronized (locks[set & (STRIPES - 1)]) {
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (fingerprints[slot] == fingerprint) {
+                    fingerprints[slot] = EMPTY;
+                }
+            }
+        }
+    }
+
+    private static long fingerprint(OutageEvent event) {
+        long numericEventId = event.getNumericEventId();
+        if (numericEventId > 0) {
+            return fingerprint(numericEventId);
+        }
+        return fingerprint(event.getEventId());
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 chars followed by a murmur3 finaliser; never {@link #EMPTY}.
+     * Two distinct eventIds collide with probability ~2^-64, which is accepted as a false duplicate.
+     */
+    static long fingerprint(String eventId) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < eventId.length(); i++) {
+            h ^= eventId.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return finish(h);
+    }
+
+    /**
+     * Same value as {@code fingerprint(Long.toString(id))} for a positive id, without rendering it.
+     */
+    static long fingerprint(long id) {
+        long divisor = 1;
+        while (id / divisor >= 10) {
+            divisor *= 10;
+        }
+        long h = FNV_OFFSET;
+        for (; divisor > 0; divisor /= 10) {
+            h ^= '0' + (id / divisor) % 10;
+            h *= FNV_PRIME;
+        }
+        return finish(h);
+    }
+
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == EMPTY ? 1L : h;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+}
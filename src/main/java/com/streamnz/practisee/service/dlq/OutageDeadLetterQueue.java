@@ -0,0 +1,179 @@
+package com.streamnz.practisee.service.dlq;
+
+import com.streamnz.practisee.codec.OutageEventCodec;
+import com.streamnz.practisee.config.DeadLetterConfig;
+import com.streamnz.practisee.model.dto.DeadLetter;
+import com.streamnz.practisee.model.dto.DeadLetterReplayResult;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.storage.MappedAppendLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Durable local store for events that failed processing, on top of a {@link MappedAppendLog} so
+ * an append on the failure path is a memory copy rather than an fsync. Entries can be inspected
+ * with {@link #peek} and re-injected through the {@link HandlerRegister} at a controlled rate
+ * with {@link #replay}.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dlq.enabled", havingValue = "true")
+public class OutageDeadLetterQueue {
+
+    private static final int MAX_REASON_CHARS = 256;
+
+    private final DeadLetterConfig config;
+
+    private final HandlerRegister handlerRegister;
+
+    private MappedAppendLog appendLog;
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    @PostConstruct
+    public void start() throws IOException {
+        appendLog = new MappedAppendLog(Path.of(config.getDirectory()), config.getSegmentBytes(),
+                config.getForceEveryAppends(), config.getForceIntervalMillis());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        appendLog.close();
+    }
+
+    /**
+     * @param event
+     * @param failure the final failure
+     * @return offset of the entry, -1 if it could not be stored
+     */
+    public long append(OutageEvent event, Throwable failure) {
+        try {
+            DeadLetter entry = new DeadLetter(-1, System.currentTimeMillis(), reasonOf(failure), event);
+            long offset = appendLog.append(encodedSize(entry), entry, OutageDeadLetterQueue::encode);
+            appended.increment();
+            return offset;
+        } catch (RuntimeException e) {
+            log.error("OutageDeadLetterQueue: Cannot dead-letter event {}: {}", event.getEventId(), e.getMessage(), e);
+            return -1;
+        }
+    }
+
+    /**
+     * @param fromOffset
+     * @param maxEntries
+     * @return up to maxEntries entries from the offset, without consuming them
+     */
+    public List<DeadLetter> peek(long fromOffset, int maxEntries) {
+        List<DeadLetter> entries = new ArrayList<>();
+        appendLog.read(fromOffset, (offset, payload) -> {
+            if (entries.size() >= maxEntries) {
+                return false;
+            }
+            entries.add(decode(offset, payload));
+            return true;
+        });
+        return entries;
+    }
+
+    /**
+     * Re-inject entries through their source system's handler, paced to {@code eventsPerSecond}.
+     * Entries that fail again are appended anew, so the replay never re-reads them.
+     * @param fromOffset
+     * @param maxEntries
+     * @param eventsPerSecond 0 or less for {@code dlq.replay.eventsPerSecond}
+     * @return
+     */
+    public DeadLetterReplayResult replay(long fromOffset, int maxEntries, int eventsPerSecond) {
+        int rate = eventsPerSecond > 0 ? eventsPerSecond : config.getReplayEventsPerSecond();
+        long intervalNanos = 1_000_000_000L / Math.max(1, rate);
+        long end = appendLog.getEndOffset();
+        int[] outcome = new int[2];
+        long[] nextDue = {System.nanoTime()};
+        long nextOffset = appendLog.read(fromOffset, (offset, payload) -> {
+            if (offset >= end || outcome[0] + outcome[1] >= maxEntries) {
+                return false;
+            }
+            DeadLetter entry = decode(offset, payload);
+            long wait = nextDue[0] - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            nextDue[0] += intervalNanos;
+            OutageEvent event = entry.event();
+            try {
+                // replay is paced anyway, waiting for the write keeps the outcome counts exact
+                handlerRegister.getHandler(event.getSourceSystem()).handle(event).join();
+                outcome[0]++;
+                replayed.increment();
+            } catch (Exception e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                outcome[1]++;
+                log.warn("OutageDeadLetterQueue: Replay of event {} failed again: {}", event.getEventId(), cause.getMessage());
+                append(event, cause);
+            }
+            return true;
+        });
+        log.info("OutageDeadLetterQueue: Replayed {} entries, {} failed again, next offset {}", outcome[0], outcome[1], nextOffset);
+        return new DeadLetterReplayResult(outcome[0], outcome[1], nextOffset);
+    }
+
+    /**
+     * Drop segments holding only entries before the offset, e.g. after a successful replay.
+     * @param offset
+     */
+    public void purgeBefore(long offset) {
+        int deleted = appendLog.truncateBefore(offset);
+        log.info("OutageDeadLetterQueue: Purged {} segments before offset {}", deleted, offset);
+    }
+
+    private static String reasonOf(Throwable failure) {
+        String reason = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        return reason.length() > MAX_REASON_CHARS ? reason.substring(0, MAX_REASON_CHARS) : reason;
+    }
+
+    // [long failedAt][string reason][event, see OutageEventCodec]
+    private static int encodedSize(DeadLetter entry) {
+        return 8 + OutageEventCodec.stringSize(entry.reason()) + OutageEventCodec.encodedSize(entry.event());
+    }
+
+    private static void encode(DeadLetter entry, ByteBuffer buffer) {
+        buffer.putLong(entry.failedAtMillis());
+        OutageEventCodec.putString(buffer, entry.reason());
+        OutageEventCodec.encode(entry.event(), buffer);
+    }
+
+    private static DeadLetter decode(long offset, ByteBuffer buffer) {
+        long failedAtMillis = buffer.getLong();
+        String reason = OutageEventCodec.getString(buffer);
+        return new DeadLetter(offset, failedAtMillis, reason, OutageEventCodec.decode(buffer));
+    }
+
+    public long getAppendedCount() {
+        return appended.sum();
+    }
+
+    public long getReplayedCount() {
+        return replayed.sum();
+    }
+
+    public long getEndOffset() {
+        return appendLog.getEndOffset();
+    }
+}
@@ -1,5 +1,6 @@
 package com.streamnz.practisee.service.handler;
 
+import com.streamnz.practisee.enums.OutagePriorityEnum;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.OutageService;
 import com.streamnz.practisee.service.handler.aop.OutageHandlerType;
@@ -23,7 +24,7 @@ public class DMSHandler extends OutageHandleTemplate{
 
     @Override
     protected void checkValidation(OutageEvent event) {
-
+        requireMandatoryFields(event);
     }
 
     @Override
@@ -33,7 +34,7 @@ public class DMSHandler extends OutageHandleTemplate{
 
     @Override
     protected void calculatePriority(OutageEvent event) {
-
+        event.setPriority(OutagePriorityEnum.of(event));
     }
 
 }
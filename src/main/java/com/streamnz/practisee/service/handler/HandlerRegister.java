@@ -1,31 +1,48 @@
 package com.streamnz.practisee.service.handler;
 
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageValidationException;
 import com.streamnz.practisee.service.handler.aop.OutageHandlerType;
+import com.streamnz.practisee.service.handler.decorator.DecoratorFactory;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Handlers by type name plus, for the {@link SourceSystemEnum} constants, an array indexed by
+ * ordinal so dispatching an event is one array load instead of a string hash lookup. Both live
+ * in an immutable snapshot that is rebuilt on every change and swapped in atomically, so
+ * handlers can be replaced at runtime while dispatch never locks and never sees a half-built
+ * table. Handlers are stored already wrapped in their decorator chain, see
+ * {@link DecoratorFactory}.
  * @Author cheng hao
  * @Date 06/10/2025 19:46
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class HandlerRegister implements ApplicationContextAware {
+
+    private final DecoratorFactory decoratorFactory;
+
     private ApplicationContext applicationContext;
-    // Map to hold handlers by type
-    private final Map<String, OutageHandler> handlerMap;
 
-    public HandlerRegister() {
-        this.handlerMap = new ConcurrentHashMap<>();
+    private record Snapshot(Map<String, OutageHandler> byType, OutageHandler[] bySourceSystem) {
     }
 
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new OutageHandler[SourceSystemEnum.values().length]);
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
@@ -33,27 +50,84 @@ public class HandlerRegister implements ApplicationContextAware {
 
     @PostConstruct
     public void init() {
+        Map<String, OutageHandler> handlerMap = new HashMap<>();
         Map<String, Object> beansWithAnnotation = applicationContext.getBeansWithAnnotation(OutageHandlerType.class);
         beansWithAnnotation.forEach((name, bean) -> {
             if (bean instanceof OutageHandler handler) {
-                OutageHandlerType annotation = bean.getClass().getAnnotation(OutageHandlerType.class);
+                // in AOP mode the bean is a CGLIB subclass, look at the handler class behind it
+                OutageHandlerType annotation = AnnotationUtils.findAnnotation(AopUtils.getTargetClass(bean), OutageHandlerType.class);
                 if (annotation != null) {
                     String type = annotation.value();
-                    // 直接注册处理器，AOP 会自动应用
                     handlerMap.put(type, handler);
-                    log.info("Registered handler for type: {} with AOP support", type);
+                    log.info("Registered handler for type: {}", type);
                 }
             }
         });
+        List<SourceSystemEnum> missing = new ArrayList<>();
+        for (SourceSystemEnum sourceSystem : SourceSystemEnum.values()) {
+            if (!handlerMap.containsKey(sourceSystem.getName())) {
+                missing.add(sourceSystem);
+            }
+        }
+        // fail at startup rather than on the first event of a source system without a handler
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("No handler registered for source systems: " + missing);
+        }
+        handlerMap.replaceAll((type, handler) -> decoratorFactory.createDecorator(handler));
+        snapshot = snapshotOf(handlerMap);
+    }
+
+    private static Snapshot snapshotOf(Map<String, OutageHandler> handlerMap) {
+        OutageHandler[] bySourceSystem = new OutageHandler[SourceSystemEnum.values().length];
+        for (SourceSystemEnum sourceSystem : SourceSystemEnum.values()) {
+            bySourceSystem[sourceSystem.ordinal()] = handlerMap.get(sourceSystem.getName());
+        }
+        return new Snapshot(Map.copyOf(handlerMap), bySourceSystem);
+    }
+
+    /**
+     * Replace the handler of a source system, e.g. with a fixed one. The handler gets the same
+     * decorator chain as those registered at startup.
+     * @param type a {@link SourceSystemEnum} name, events are only ever dispatched by source system
+     * @param handler
+     * @return the replaced handler
+     * @throws IllegalArgumentException if the type is not a source system
+     */
+    public synchronized OutageHandler register(String type, OutageHandler handler) {
+        boolean sourceSystem = false;
+        for (SourceSystemEnum candidate : SourceSystemEnum.values()) {
+            sourceSystem |= candidate.getName().equals(type);
+        }
+        if (!sourceSystem) {
+            throw new IllegalArgumentException("No source system " + type + ", a handler registered for it would never receive events");
+        }
+        Map<String, OutageHandler> handlerMap = new HashMap<>(snapshot.byType());
+        OutageHandler previous = handlerMap.put(type, decoratorFactory.createDecorator(handler));
+        snapshot = snapshotOf(handlerMap);
+        log.info("Registered handler for type: {} at runtime, replacing {}", type, previous);
+        return previous;
+    }
+
+    public OutageHandler getHandler(SourceSystemEnum sourceSystem) {
+        if (sourceSystem == null) {
+            throw new OutageValidationException("Missing sourceSystem", null);
+        }
+        return snapshot.bySourceSystem()[sourceSystem.ordinal()];
     }
 
     public OutageHandler getHandler(String type) {
-        OutageHandler outageHandler = handlerMap.get(type);
+        OutageHandler outageHandler = snapshot.byType().get(type);
         if (outageHandler == null) {
             throw new IllegalArgumentException("No handler found for type: " + type);
         }
         return outageHandler;
     }
 
-}
+    /**
+     * @return the registered, decorated handlers by type, an immutable view of the current snapshot
+     */
+    public Map<String, OutageHandler> getHandlers() {
+        return snapshot.byType();
+    }
 
+}
@@ -1,9 +1,13 @@
 package com.streamnz.practisee.service.handler;
 
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.exceptions.OutageValidationException;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.OutageService;
 import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
 
+import java.util.concurrent.CompletableFuture;
+
 
 /**
  * @Author cheng hao
@@ -20,17 +24,32 @@ public abstract class OutageHandleTemplate implements OutageHandler {
         this.listenerRegister = listenerRegister;
     }
 
+    // declared so an AOP proxy of a handler can throw it without wrapping it in UndeclaredThrowableException
     @Override
-    public final void handle(OutageEvent event) {
+    public CompletableFuture<Void> handle(OutageEvent event) throws OutageProcessingException {
         checkValidation(event);
         normalize(event);
         calculatePriority(event);
+        // async listener failures settle later and are dead-lettered by the register, see OutageEventListenerRegister.publish
         notifyStakeholders(event);
-        saveToDatabase(event);
+        return saveToDatabase(event);
     }
 
     protected abstract void checkValidation(OutageEvent event);
 
+    /**
+     * Validation shared by every source, an event failing it is never retried
+     * @param event
+     */
+    protected void requireMandatoryFields(OutageEvent event) {
+        if (event.getSourceSystem() == null) {
+            throw new OutageValidationException("Missing sourceSystem", event.getEventId());
+        }
+        if (event.getEventTime() == null) {
+            throw new OutageValidationException("Missing eventTime", event.getEventId());
+        }
+    }
+
     protected abstract void normalize(OutageEvent event);
 
     protected abstract void calculatePriority(OutageEvent event);
@@ -39,18 +58,20 @@ public abstract class OutageHandleTemplate implements OutageHandler {
      * Notify all registered listeners about the outage event
      *
      * @param event
+     * @return completes when every listener has been notified, already done unless listeners run async;
+     *         an async failure has already been counted and dead-lettered when this completes
      */
-    protected void notifyStakeholders(OutageEvent event) {
-        listenerRegister.publishEvent(event);
+    protected CompletableFuture<Void> notifyStakeholders(OutageEvent event) {
+        return listenerRegister.publish(event);
     }
 
 
     /**
      * Persist the outage event to the database
      * @param event
+     * @return completes once the write commits, the handler thread does not wait for it
      */
-    protected void saveToDatabase(OutageEvent event) {
-        System.out.println("Saving event to database: " + event);
-        outageService.saveEvent(event);
+    protected CompletableFuture<Void> saveToDatabase(OutageEvent event) {
+        return outageService.saveEventAsync(event);
     }
 }
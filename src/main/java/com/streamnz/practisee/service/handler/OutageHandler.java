@@ -3,6 +3,8 @@ package com.streamnz.practisee.service.handler;
 import com.streamnz.practisee.exceptions.OutageProcessingException;
 import com.streamnz.practisee.model.dto.OutageEvent;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @Author cheng hao
  * @Date 06/10/2025 19:48
@@ -11,6 +13,8 @@ public interface OutageHandler {
     /**
      * Handle the outage event
      * @param event
+     * @return completes once the event is persisted; failures before the write are thrown, a
+     *         failed write completes it exceptionally
      */
-    void handle(OutageEvent event) throws OutageProcessingException;
+    CompletableFuture<Void> handle(OutageEvent event) throws OutageProcessingException;
 }
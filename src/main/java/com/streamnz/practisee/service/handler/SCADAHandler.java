@@ -1,5 +1,6 @@
 package com.streamnz.practisee.service.handler;
 
+import com.streamnz.practisee.enums.OutagePriorityEnum;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.OutageService;
 import com.streamnz.practisee.service.handler.aop.OutageHandlerType;
@@ -23,18 +24,20 @@ public class SCADAHandler extends OutageHandleTemplate {
 
     @Override
     protected void checkValidation(OutageEvent event) {
-        log.info("SCADAHandler: Validating event - " + event);
+        log.debug("SCADAHandler: Validating event {}", event.getEventId());
+        requireMandatoryFields(event);
         // Add SCADA-specific validation logic here
     }
 
     @Override
     protected void normalize(OutageEvent event) {
-        log.info("SCADAHandler: Normalizing event - " + event);
+        log.debug("SCADAHandler: Normalizing event {}", event.getEventId());
     }
 
     @Override
     protected void calculatePriority(OutageEvent event) {
-        log.info("SCADAHandler: Calculating priority for event - " + event);
+        log.debug("SCADAHandler: Calculating priority for event {}", event.getEventId());
+        event.setPriority(OutagePriorityEnum.of(event));
     }
 
 }
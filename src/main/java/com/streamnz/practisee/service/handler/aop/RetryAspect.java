@@ -1,53 +1,147 @@
 package com.streamnz.practisee.service.handler.aop;
 
 import com.streamnz.practisee.exceptions.OutageMaxRetryException;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.enums.RetryModeEnum;
 import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.retry.RetryPolicy;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @Author cheng hao
  * @Date 07/10/2025 00:43
  */
 @Aspect
 @Component
+@ConditionalOnProperty(name = "handler.crosscutting", havingValue = "AOP")
 @Order(1)  // 先执行重试切面
 @Slf4j
 public class RetryAspect {
 
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
     @Value("${retry.maxRetries:3}")
     private int maxRetries;
 
     @Value("${retry.enabled:true}")
     private boolean retryEnabled;
 
-    @Around("@annotation(OutageHandlerType)")
-    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
-        if (!retryEnabled) {
+    // scheduled retries are driven by the consumer, not by the proxy
+    @Value("${retry.mode:INLINE}")
+    private RetryModeEnum retryMode = RetryModeEnum.INLINE;
+
+    @Value("${retry.initialBackoffMillis:50}")
+    private long initialBackoffMillis;
+
+    @Value("${retry.maxBackoffMillis:5000}")
+    private long maxBackoffMillis;
+
+    /*
+     * @target rather than @within: handle() is inherited from OutageHandleTemplate, which is not
+     * annotated, and @within only matches methods declared in the annotated class itself
+     */
+    @Around("@target(com.streamnz.practisee.service.handler.aop.OutageHandlerType)"
+            + " && execution(* com.streamnz.practisee.service.handler.OutageHandler+.handle(..)) && args(event)")
+    public Object retry(ProceedingJoinPoint joinPoint, OutageEvent event) throws Throwable {
+        if (!retryEnabled || retryMode == RetryModeEnum.SCHEDULED) {
             return joinPoint.proceed();
         }
 
-        OutageEvent event = (OutageEvent) joinPoint.getArgs()[0];
+        ProxyMethodInvocation invocation = (ProxyMethodInvocation) ExposeInvocationInterceptor.currentInvocation();
         int attempt = 0;
-        
-        while (attempt < maxRetries) {
+        while (true) {
+            attempt++;
             try {
-                log.info("RetryAspect: Attempt {} to handle event {}", attempt + 1, event.getEventId());
-                return joinPoint.proceed();
+                log.debug("RetryAspect: Attempt {} to handle event {}", attempt, event.getEventId());
+                return retryFailedWrite(invocation, event, proceed(joinPoint), attempt);
             } catch (Exception e) {
-                attempt++;
-                log.error("RetryAspect: Error handling event {} on attempt {}: {}", event.getEventId(), attempt, e.getMessage(), e);
-                if (attempt >= maxRetries) {
-                    log.error("RetryAspect: Max retries reached for event {}. Failing the operation.", event.getEventId());
-                    throw new OutageMaxRetryException("Max retries reached for event", event.getEventId());
+                Throwable failure = giveUp(event, attempt, e);
+                if (failure != null) {
+                    throw failure;
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("RetryAspect: Error handling event {} on attempt {}: {}", event.getEventId(), attempt, e.getMessage());
                 }
+                backoff(attempt, event);
+            }
+        }
+    }
+
+    // handle() declares OutageProcessingException, anything else checked would reach the caller wrapped
+    private void backoff(int attempt, OutageEvent event) throws OutageProcessingException {
+        try {
+            Thread.sleep(RetryPolicy.backoffMillis(attempt, initialBackoffMillis, maxBackoffMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutageProcessingException("Interrupted while retrying event", e, event.getEventId());
+        }
+    }
+
+    // see RetryDecorator, a failed write is retried from the delay scheduler rather than a sleeping thread
+    private CompletableFuture<Void> retryFailedWrite(ProxyMethodInvocation invocation, OutageEvent event, CompletableFuture<Void> persisted, int attempt) {
+        return persisted.exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            Throwable failure = giveUp(event, attempt, cause);
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
             }
+            long delay = RetryPolicy.backoffMillis(attempt, initialBackoffMillis, maxBackoffMillis);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    log.debug("RetryAspect: Attempt {} to handle event {}", attempt + 1, event.getEventId());
+                    return proceedExposed(invocation);
+                } catch (Throwable e) {
+                    return CompletableFuture.<Void>failedFuture(e);
+                }
+            }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                    .thenCompose(next -> retryFailedWrite(invocation, event, next, attempt + 1));
+        });
+    }
+
+    // handle() is declared to return the future of the write
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Void> proceed(ProceedingJoinPoint joinPoint) throws Throwable {
+        return (CompletableFuture<Void>) joinPoint.proceed();
+    }
+
+    /*
+     * The telemetry aspect's pointcut is matched against the invocation exposed on the current
+     * thread, a plain proceed() from the delay scheduler would skip it. A copy of this invocation,
+     * positioned just inside this aspect, is exposed for the attempt instead.
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Void> proceedExposed(ProxyMethodInvocation invocation) throws Throwable {
+        return (CompletableFuture<Void>) ExposeInvocationInterceptor.INSTANCE.invoke(invocation.invocableClone());
+    }
+
+    /**
+     * @return the failure to rethrow, or null to try again
+     */
+    private Throwable giveUp(OutageEvent event, int attempt, Throwable e) {
+        if (!RetryPolicy.isRetryable(e)) {
+            return e;
+        }
+        if (attempt < maxRetries) {
+            return null;
+        }
+        if (FAILURE_LOG.tryAcquire()) {
+            log.error("RetryAspect: Max retries reached for event {}, {} similar failures not logged",
+                    event.getEventId(), FAILURE_LOG.takeSuppressed(), e);
         }
-        return null;
+        return new OutageMaxRetryException("Max retries reached for event", event.getEventId(), e);
     }
 }
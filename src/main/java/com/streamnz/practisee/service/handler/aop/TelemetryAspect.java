@@ -2,15 +2,21 @@ package com.streamnz.practisee.service.handler.aop;
 
 import com.streamnz.practisee.exceptions.OutageTelemetryHandleException;
 import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.TelemetryService;
+import com.streamnz.practisee.service.telemetry.HandlerTelemetry;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @Author cheng hao
@@ -18,32 +24,53 @@ import java.time.Instant;
  */
 @Aspect
 @Component
+@ConditionalOnProperty(name = "handler.crosscutting", havingValue = "AOP")
 @Order(2)  // 在重试切面之后执行
 @Slf4j
+@RequiredArgsConstructor
 public class TelemetryAspect {
 
-    @Around("@annotation(OutageHandlerType)")
-    public Object handleWithTelemetry(ProceedingJoinPoint joinPoint) throws Throwable {
-        OutageEvent event = (OutageEvent) joinPoint.getArgs()[0];
-        Instant start = Instant.now();
-        String handlerName = joinPoint.getTarget().getClass().getSimpleName();
-        String eventId = event.getEventId();
-        
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
+    private final TelemetryService telemetryService;
+
+    // resolved once per handler class instead of per event
+    private final Map<Class<?>, HandlerTelemetry> telemetryByTarget = new ConcurrentHashMap<>();
+
+    // see RetryAspect
+    @Around("@target(com.streamnz.practisee.service.handler.aop.OutageHandlerType)"
+            + " && execution(* com.streamnz.practisee.service.handler.OutageHandler+.handle(..)) && args(event)")
+    public Object handleWithTelemetry(ProceedingJoinPoint joinPoint, OutageEvent event) throws Throwable {
+        HandlerTelemetry telemetry = telemetryByTarget.computeIfAbsent(joinPoint.getTarget().getClass(),
+                target -> telemetryService.forHandler(target.getSimpleName()));
+        long start = System.nanoTime();
+        CompletableFuture<?> persisted;
         try {
-            log.info("TelemetryAspect: Start handling event {} with handler {} at {}", eventId, handlerName, start);
-            
-            Object result = joinPoint.proceed();
-            
-            Instant end = Instant.now();
-            Duration duration = Duration.between(start, end);
-            log.info("TelemetryAspect: Finished handling event {} with handler {} at {}. Duration: {} ms", eventId, handlerName, end, duration.toMillis());
-            
-            return result;
+            persisted = (CompletableFuture<?>) joinPoint.proceed();
         } catch (Exception e) {
-            log.error("TelemetryAspect: Error handling event {}: {}", eventId, e.getMessage(), e);
-            Duration duration = Duration.between(start, Instant.now());
-            log.info("TelemetryAspect: Handling event {} failed after {} ms", eventId, duration.toMillis());
-            throw new OutageTelemetryHandleException("TelemetryAspect: Error handling event " + eventId, eventId);
+            throw onFailure(telemetry, event, System.nanoTime() - start, e);
+        }
+        // see TelemetryDecorator, timed up to the commit
+        return persisted.whenComplete((ignored, error) -> {
+            long elapsed = System.nanoTime() - start;
+            if (error != null) {
+                onFailure(telemetry, event, elapsed, error);
+                return;
+            }
+            telemetry.recordSuccess(elapsed);
+            if (log.isDebugEnabled()) {
+                log.debug("TelemetryAspect: Handled event with handler {} in {} ns", telemetry.getHandlerName(), elapsed);
+            }
+        });
+    }
+
+    private OutageTelemetryHandleException onFailure(HandlerTelemetry telemetry, OutageEvent event, long elapsed, Throwable e) {
+        telemetry.recordFailure(elapsed);
+        String eventId = event.getEventId();
+        if (FAILURE_LOG.tryAcquire()) {
+            log.error("TelemetryAspect: Error handling event {} with handler {} after {} ns, {} similar failures not logged: {}",
+                    eventId, telemetry.getHandlerName(), elapsed, FAILURE_LOG.takeSuppressed(), e.toString());
         }
+        return new OutageTelemetryHandleException("TelemetryAspect: Error handling event", eventId, e);
     }
 }
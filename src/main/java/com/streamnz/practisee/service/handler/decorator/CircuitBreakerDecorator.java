@@ -0,0 +1,204 @@
+package com.streamnz.practisee.service.handler.decorator;
+
+import com.streamnz.practisee.config.CircuitBreakerConfig;
+import com.streamnz.practisee.enums.CircuitStateEnum;
+import com.streamnz.practisee.exceptions.OutageCircuitOpenException;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.retry.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker and bulkhead for one handler. The failure rate over the last
+ * {@code circuit.windowSize} calls opens the circuit; while open, and whenever the bulkhead is
+ * full, events fail fast with {@link OutageCircuitOpenException} instead of hitting the failing
+ * database or listeners. The event is never parked here, and no retry backs off against the open
+ * circuit either: it goes to the consumer's dead-letter queue for a later replay. After
+ * {@code circuit.openMillis} a few probe calls decide whether to close again.
+ * Validation failures say nothing about the downstream and are not counted.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:29
+ */
+@Slf4j
+public final class CircuitBreakerDecorator extends OutageHandlerDecorator {
+
+    private final String handlerName;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openMillis;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private final Semaphore bulkhead;
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder bulkheadRejected = new LongAdder();
+
+    // ring of recent outcomes, true = failure; everything below is guarded by this
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private volatile CircuitStateEnum state = CircuitStateEnum.CLOSED;
+
+    public CircuitBreakerDecorator(OutageHandler wrappedHandler, CircuitBreakerConfig config) {
+        this(wrappedHandler, config, System::currentTimeMillis);
+    }
+
+    public CircuitBreakerDecorator(OutageHandler wrappedHandler, CircuitBreakerConfig config, LongSupplier clock) {
+        super(wrappedHandler);
+        if (config.getWindowSize() <= 0 || config.getMinimumCalls() <= 0 || config.getMinimumCalls() > config.getWindowSize()
+                || config.getFailureRateThreshold() <= 0 || config.getFailureRateThreshold() > 100
+                || config.getHalfOpenProbes() <= 0 || config.getMaxConcurrent() <= 0) {
+            throw new IllegalStateException("Invalid circuit breaker configuration");
+        }
+        this.handlerName = handlerNameOf(wrappedHandler);
+        this.minimumCalls = config.getMinimumCalls();
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.openMillis = config.getOpenMillis();
+        this.halfOpenProbes = config.getHalfOpenProbes();
+        this.clock = clock;
+        this.bulkhead = new Semaphore(config.getMaxConcurrent());
+        this.window = new boolean[config.getWindowSize()];
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutageEvent event) throws OutageProcessingException {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejected.increment();
+            throw new OutageCircuitOpenException("Bulkhead full for " + handlerName, event.getEventId());
+        }
+        boolean inFlight = false;
+        try {
+            CircuitStateEnum admittedAs = admit();
+            if (admittedAs == CircuitStateEnum.OPEN) {
+                shortCircuited.increment();
+                throw new OutageCircuitOpenException("Circuit open for " + handlerName, event.getEventId());
+            }
+            CompletableFuture<Void> persisted;
+            try {
+                persisted = deligate.handle(event);
+            } catch (OutageProcessingException | RuntimeException e) {
+                onFailure(admittedAs, RetryPolicy.isRetryable(e));
+                throw e;
+            }
+            inFlight = true;
+            // the permit is held until the write settles, a failed commit counts like any other failure
+            return persisted.whenComplete((ignored, error) -> {
+                bulkhead.release();
+                if (error != null) {
+                    onFailure(admittedAs, RetryPolicy.isRetryable(error));
+                } else {
+                    onSuccess(admittedAs);
+                }
+            });
+        } finally {
+            if (!inFlight) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    /**
+     * @return CLOSED for a normal call, HALF_OPEN for a probe, OPEN if the call must not go through
+     */
+    private CircuitStateEnum admit() {
+        if (state == CircuitStateEnum.CLOSED) {
+            return CircuitStateEnum.CLOSED;
+        }
+        synchronized (this) {
+            if (state == CircuitStateEnum.CLOSED) {
+                return CircuitStateEnum.CLOSED;
+            }
+            if (state == CircuitStateEnum.OPEN) {
+                if (clock.getAsLong() - openedAt < openMillis) {
+                    return CircuitStateEnum.OPEN;
+                }
+                state = CircuitStateEnum.HALF_OPEN;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+                log.info("CircuitBreakerDecorator: Circuit of {} half-open, probing", handlerName);
+            }
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                return CircuitStateEnum.OPEN;
+            }
+            probesInFlight++;
+            return CircuitStateEnum.HALF_OPEN;
+        }
+    }
+
+    private synchronized void onSuccess(CircuitStateEnum admittedAs) {
+        if (admittedAs == CircuitStateEnum.HALF_OPEN) {
+            probesInFlight--;
+            if (state == CircuitStateEnum.HALF_OPEN && ++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+        } else if (state == CircuitStateEnum.CLOSED) {
+            record(false);
+        }
+    }
+
+    private synchronized void onFailure(CircuitStateEnum admittedAs, boolean counted) {
+        if (admittedAs == CircuitStateEnum.HALF_OPEN) {
+            probesInFlight--;
+            if (counted && state == CircuitStateEnum.HALF_OPEN) {
+                open();
+            }
+        } else if (counted && state == CircuitStateEnum.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                open();
+            }
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        log.warn("CircuitBreakerDecorator: Circuit of {} opened, {}/{} recent calls failed", handlerName, windowFailures, windowCount);
+        state = CircuitStateEnum.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        log.info("CircuitBreakerDecorator: Circuit of {} closed", handlerName);
+        state = CircuitStateEnum.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    public CircuitStateEnum getState() {
+        return state;
+    }
+
+    public long getBulkheadRejectedCount() {
+        return bulkheadRejected.sum();
+    }
+
+    public long getShortCircuitedCount() {
+        return shortCircuited.sum();
+    }
+}
@@ -1,12 +1,27 @@
 package com.streamnz.practisee.service.handler.decorator;
 
+import com.streamnz.practisee.config.CircuitBreakerConfig;
 import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.enums.CrossCuttingModeEnum;
+import com.streamnz.practisee.enums.HandlerDecoratorEnum;
+import com.streamnz.practisee.enums.RetryModeEnum;
+import com.streamnz.practisee.service.TelemetryService;
 import com.streamnz.practisee.service.handler.OutageHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 /**
+ * Builds the decorator chain of a handler once, when it is registered, in the order of
+ * {@code handler.chain} (outermost first). Dispatching an event is then a plain call through
+ * each layer, with no proxy, join point or argument array in between. In
+ * {@code handler.crosscutting=AOP} mode retry and telemetry are left to the aspects, so they
+ * are never applied twice.
  * @Author cheng hao
  * @Date 06/10/2025 23:50
  */
@@ -17,13 +32,40 @@ public class DecoratorFactory {
 
     private final DecoratorConfig config;
 
+    private final TelemetryService telemetryService;
+
+    private final CircuitBreakerConfig circuitBreakerConfig;
+
     public OutageHandler createDecorator(OutageHandler handler) {
+        List<HandlerDecoratorEnum> chain = config.getChain();
+        Set<HandlerDecoratorEnum> seen = EnumSet.noneOf(HandlerDecoratorEnum.class);
+        for (HandlerDecoratorEnum decorator : chain) {
+            if (!seen.add(decorator)) {
+                throw new IllegalStateException("Decorator " + decorator + " is listed twice in handler.chain " + chain);
+            }
+        }
         OutageHandler decoratedHandler = handler;
-        if (config.isRetryEnabled()) {
-            log.info("Applying RetryDecorator with maxRetries={}", config.getMaxRetries());
-            decoratedHandler = new TelemetryDecorator(new RetryDecorator(decoratedHandler, config.getMaxRetries()));
+        List<HandlerDecoratorEnum> applied = new ArrayList<>();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            OutageHandler wrapped = decorate(decoratedHandler, chain.get(i));
+            if (wrapped != decoratedHandler) {
+                applied.add(0, chain.get(i));
+                decoratedHandler = wrapped;
+            }
         }
-        // Future decorators can be added here
+        log.info("Decorated {} with {}", OutageHandlerDecorator.handlerNameOf(handler), applied);
         return decoratedHandler;
     }
+
+    private OutageHandler decorate(OutageHandler handler, HandlerDecoratorEnum decorator) {
+        boolean aop = config.getCrossCuttingMode() == CrossCuttingModeEnum.AOP;
+        return switch (decorator) {
+            case TELEMETRY -> aop ? handler : new TelemetryDecorator(handler, telemetryService);
+            // in SCHEDULED mode the consumer hands failures to the RetryScheduler instead
+            case RETRY -> aop || !config.isRetryEnabled() || config.getRetryMode() != RetryModeEnum.INLINE
+                    ? handler
+                    : new RetryDecorator(handler, config.getMaxRetries(), config.getInitialBackoffMillis(), config.getMaxBackoffMillis());
+            case CIRCUIT_BREAKER -> circuitBreakerConfig.isEnabled() ? new CircuitBreakerDecorator(handler, circuitBreakerConfig) : handler;
+        };
+    }
 }
@@ -4,7 +4,12 @@ import com.streamnz.practisee.exceptions.OutageProcessingException;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.handler.OutageHandler;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
+ * Decorators call {@link #deligate} from their own {@code handle} rather than through
+ * {@code super.handle}, so each layer has its own call site with its own type profile and the
+ * JIT can inline the chain instead of sharing one megamorphic call site between all layers.
  * @Author cheng hao
  * @Date 06/10/2025 20:08
  */
@@ -17,7 +22,19 @@ public abstract class OutageHandlerDecorator implements OutageHandler {
     }
 
     @Override
-    public void handle(OutageEvent event) throws OutageProcessingException {
-        deligate.handle(event);
+    public CompletableFuture<Void> handle(OutageEvent event) throws OutageProcessingException {
+        return deligate.handle(event);
+    }
+
+    /**
+     * Simple class name of the handler at the bottom of a decorator stack.
+     * @param handler
+     * @return
+     */
+    public static String handlerNameOf(OutageHandler handler) {
+        while (handler instanceof OutageHandlerDecorator decorator) {
+            handler = decorator.deligate;
+        }
+        return handler.getClass().getSimpleName();
     }
 }
@@ -3,42 +3,121 @@ package com.streamnz.practisee.service.handler.decorator;
 import com.streamnz.practisee.exceptions.OutageMaxRetryException;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.retry.RetryPolicy;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
 /**
+ * Retries on the calling thread, backing off between attempts. A write that fails after the
+ * handler returned is retried once its backoff has passed, without holding any thread meanwhile.
+ * Non-retryable failures are rethrown at once. Use {@code retry.mode=SCHEDULED} to free the thread between attempts.
  * @Author cheng hao
  * @Date 06/10/2025 20:30
  */
 @Slf4j
-public class RetryDecorator extends OutageHandlerDecorator{
+public final class RetryDecorator extends OutageHandlerDecorator{
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
 
     private int maxRetries;
 
+    private final long initialBackoffMillis;
+
+    private final long maxBackoffMillis;
+
     public RetryDecorator(OutageHandler wrappedHandler, int maxRetries) {
+        this(wrappedHandler, maxRetries, 0, 0);
+    }
+
+    public RetryDecorator(OutageHandler wrappedHandler, int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
         super(wrappedHandler);
         if (maxRetries <= 0) {
             throw new OutageMaxRetryException("Invalid MaxRetries Configuration",null); //
         }
         this.maxRetries  = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
     }
 
     @Override
-    public void handle(OutageEvent event) {
+    public CompletableFuture<Void> handle(OutageEvent event) {
         int attempt = 0;
-        while (attempt < maxRetries) {
+        while (true) {
+            attempt++;
             try {
-                log.info("RetryDecorator: Attempt {} to handle event {}", attempt + 1, event.getEventId());
-                super.handle(event);
-
-                return; // If successful, exit the method
+                log.debug("RetryDecorator: Attempt {} to handle event {}", attempt, event.getEventId());
+                return retryFailedWrite(event, deligate.handle(event), attempt);
             } catch (Exception e) {
-                attempt++;
-                log.error("RetryDecorator: Error handling event {} on attempt {}: {}", event.getEventId(), attempt, e.getMessage(), e);
-                if (attempt >= maxRetries) {
-                    log.error("RetryDecorator: Max retries reached for event {}. Failing the operation.", event.getEventId());
-                    throw new OutageMaxRetryException("Max retries reached for event",event.getEventId()); // Rethrow the exception after max retries
+                RuntimeException failure = giveUp(event, attempt, e);
+                if (failure != null) {
+                    throw failure;
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("RetryDecorator: Error handling event {} on attempt {}: {}", event.getEventId(), attempt, e.getMessage());
+                }
+                backoff(attempt, event);
+            }
+        }
+    }
+
+    /**
+     * A write that fails after the handler returned is retried from the JDK's delay scheduler, so
+     * the batch writer thread that completes the future never sleeps through the backoff.
+     */
+    private CompletableFuture<Void> retryFailedWrite(OutageEvent event, CompletableFuture<Void> persisted, int attempt) {
+        return persisted.exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            RuntimeException failure = giveUp(event, attempt, cause);
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+            long delay = RetryPolicy.backoffMillis(attempt, initialBackoffMillis, maxBackoffMillis);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    log.debug("RetryDecorator: Attempt {} to handle event {}", attempt + 1, event.getEventId());
+                    return deligate.handle(event);
+                } catch (Exception e) {
+                    return CompletableFuture.<Void>failedFuture(e);
                 }
+            }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                    .thenCompose(next -> retryFailedWrite(event, next, attempt + 1));
+        });
+    }
+
+    /**
+     * @return the exception to fail with, or null to try again
+     */
+    private RuntimeException giveUp(OutageEvent event, int attempt, Throwable e) {
+        if (!RetryPolicy.isRetryable(e)) {
+            if (e instanceof RuntimeException runtimeException) {
+                return runtimeException;
             }
+            return new OutageMaxRetryException("Non-retryable failure for event", event.getEventId(), e);
+        }
+        if (attempt < maxRetries) {
+            return null;
+        }
+        if (FAILURE_LOG.tryAcquire()) {
+            log.error("RetryDecorator: Max retries reached for event {}, {} similar failures not logged",
+                    event.getEventId(), FAILURE_LOG.takeSuppressed(), e);
+        }
+        return new OutageMaxRetryException("Max retries reached for event", event.getEventId(), e);
+    }
+
+    private void backoff(int attempt, OutageEvent event) {
+        long delay = RetryPolicy.backoffMillis(attempt, initialBackoffMillis, maxBackoffMillis);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutageMaxRetryException("Interrupted while retrying event", event.getEventId());
         }
     }
 }
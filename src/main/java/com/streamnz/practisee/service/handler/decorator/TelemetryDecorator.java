@@ -2,46 +2,61 @@ package com.streamnz.practisee.service.handler.decorator;
 
 import com.streamnz.practisee.exceptions.OutageTelemetryHandleException;
 import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.TelemetryService;
 import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.telemetry.HandlerTelemetry;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @Author cheng hao
  * @Date 06/10/2025 20:09
  */
 @Slf4j
-public class TelemetryDecorator extends OutageHandlerDecorator{
+public final class TelemetryDecorator extends OutageHandlerDecorator{
 
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
 
-    public TelemetryDecorator(OutageHandler deligate) {
+    private final HandlerTelemetry telemetry;
+
+    public TelemetryDecorator(OutageHandler deligate, TelemetryService telemetryService) {
         super(deligate);
+        this.telemetry = telemetryService.forHandler(handlerNameOf(deligate));
     }
 
     @Override
-    public void handle(OutageEvent event) {
-            Instant start = Instant.now();
-            String handlerName = deligate.getClass().getSimpleName();
-            String eventId = event.getEventId();
+    public CompletableFuture<Void> handle(OutageEvent event) {
+        long start = System.nanoTime();
+        CompletableFuture<Void> persisted;
         try{
-            log.info("TelemetryDecorator: Start handling event {} with handler {} at {}", eventId, handlerName, start);
-            super.handle(event);
-            Instant end = Instant.now();
-            Duration duration = Duration.between(start, end);
-            log.info("TelemetryDecorator: Finished handling event {} with handler {} at {}. Duration: {} ms",
-                    eventId, handlerName, end, duration.toMillis());
-
-            // record success metrics here if needed todo
+            persisted = deligate.handle(event);
         } catch (Exception e) {
-            log.error("TelemetryDecorator: Error handling event {}: {}", event.getEventId(), e.getMessage(), e);
-            Duration duration = Duration.between(Instant.now(), Instant.now());
-            log.info("TelemetryDecorator: Handling event {} failed after {} ms", eventId, duration.toMillis());
-            // record failure metrics here if needed todo
-            throw new OutageTelemetryHandleException("TelemetryDecorator: Error handling event " + eventId, eventId);
+            throw onFailure(event, System.nanoTime() - start, e);
         }
+        // timed up to the commit rather than the hand-off to the batch writer
+        return persisted.whenComplete((ignored, error) -> {
+            long elapsed = System.nanoTime() - start;
+            if (error != null) {
+                onFailure(event, elapsed, error);
+                return;
+            }
+            telemetry.recordSuccess(elapsed);
+            if (log.isDebugEnabled()) {
+                log.debug("TelemetryDecorator: Handled event {} with handler {} in {} ns",
+                        event.getEventId(), telemetry.getHandlerName(), elapsed);
+            }
+        });
+    }
 
+    private OutageTelemetryHandleException onFailure(OutageEvent event, long elapsed, Throwable e) {
+        telemetry.recordFailure(elapsed);
+        if (FAILURE_LOG.tryAcquire()) {
+            log.error("TelemetryDecorator: Error handling event {} with handler {} after {} ns, {} similar failures not logged: {}",
+                    event.getEventId(), telemetry.getHandlerName(), elapsed, FAILURE_LOG.takeSuppressed(), e.toString());
+        }
+        return new OutageTelemetryHandleException("TelemetryDecorator: Error handling event", event.getEventId(), e);
     }
 
 }
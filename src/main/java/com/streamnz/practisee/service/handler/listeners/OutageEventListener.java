@@ -9,4 +9,12 @@ import com.streamnz.practisee.model.dto.OutageEvent;
 public interface OutageEventListener {
 
     void onOutageEvent(OutageEvent event);
+
+    /**
+     * Events this listener should receive, evaluated once when the listener is registered.
+     * @return
+     */
+    default OutageEventSubscription subscription() {
+        return OutageEventSubscription.all();
+    }
 }
@@ -1,19 +1,41 @@
 package com.streamnz.practisee.service.handler.listeners;
 
+import com.streamnz.practisee.config.ListenerConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
 import com.streamnz.practisee.exceptions.OutageEventPublishException;
 import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * Listeners can be registered and unregistered at runtime: each change rebuilds the dispatch
+ * index off to the side and swaps it in with a single volatile write, so publishing never
+ * locks and always routes against a complete index.
+ * <p>
+ * In async mode a failed notification settles after the handler has returned, so it cannot fail
+ * the event any more; it is counted and the event is dead-lettered for replay instead.
  * @Author cheng hao
  * @Date 06/10/2025 23:12
  */
@@ -21,11 +43,23 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @Slf4j
 public class OutageEventListenerRegister implements ApplicationContextAware {
 
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
     private final List<OutageEventListener> listeners;
+    private final ListenerConfig config;
+    // only present when dlq.enabled=true; looked up on failure, the queue depends on the handlers that depend on this
+    private final ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+    private final LongAdder asyncFailures = new LongAdder();
     private ApplicationContext applicationContext;
+    private ExecutorService executor;
+
+    // listeners matching each (source system, critical, storm level) cell, see slotOf
+    private volatile OutageEventListener[][] dispatchIndex;
 
-    public OutageEventListenerRegister() {
+    public OutageEventListenerRegister(ListenerConfig config, ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider) {
         this.listeners = new CopyOnWriteArrayList<>();
+        this.config = config;
+        this.deadLetterQueueProvider = deadLetterQueueProvider;
     }
 
     @Override
@@ -37,17 +71,173 @@ public class OutageEventListenerRegister implements ApplicationContextAware {
     public void init() {
         Map<String, OutageEventListener> beansOfType = applicationContext.getBeansOfType(OutageEventListener.class);
         listeners.addAll(beansOfType.values());
+        dispatchIndex = buildDispatchIndex(listeners);
         log.info("Registered {} OutageEventListeners", listeners.size());
+        if (config.isAsyncEnabled()) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = new ThreadPoolExecutor(config.getThreads(), config.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                    runnable -> new Thread(runnable, "outage-listener-" + threadIndex.getAndIncrement()));
+            log.info("Listeners are notified asynchronously on {} threads with a {} ms timeout",
+                    config.getThreads(), config.getTimeoutMillis());
+        }
+    }
+
+    /**
+     * Add a listener, it receives the events published after this returns.
+     * @param listener
+     * @return false if it was already registered
+     */
+    public synchronized boolean register(OutageEventListener listener) {
+        if (listeners.contains(listener)) {
+            return false;
+        }
+        listeners.add(listener);
+        dispatchIndex = buildDispatchIndex(listeners);
+        log.info("Registered OutageEventListener {} at runtime", listener.getClass().getName());
+        return true;
+    }
+
+    /**
+     * Remove a listener. A publish already routed keeps notifying it.
+     * @param listener
+     * @return false if it was not registered
+     */
+    public synchronized boolean unregister(OutageEventListener listener) {
+        if (!listeners.remove(listener)) {
+            return false;
+        }
+        dispatchIndex = buildDispatchIndex(listeners);
+        log.info("Unregistered OutageEventListener {}", listener.getClass().getName());
+        return true;
+    }
+
+    public List<OutageEventListener> getListeners() {
+        return List.copyOf(listeners);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Notify listeners in the configured mode. Synchronous failures are thrown, async ones are
+     * counted and dead-lettered when they settle.
+     * @param event
+     * @return completes when every listener has been notified
+     */
+    public CompletableFuture<Void> publish(OutageEvent event) {
+        if (executor == null) {
+            publishEvent(event);
+            return CompletableFuture.completedFuture(null);
+        }
+        return publishEventAsync(event).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                onAsyncFailure(event, failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+            }
+        });
+    }
+
+    private void onAsyncFailure(OutageEvent event, Throwable failure) {
+        asyncFailures.increment();
+        OutageDeadLetterQueue deadLetterQueue = deadLetterQueueProvider.getIfAvailable();
+        if (deadLetterQueue != null) {
+            deadLetterQueue.append(event, failure);
+        }
+    }
+
+    public long getAsyncFailureCount() {
+        return asyncFailures.sum();
     }
 
     public void publishEvent(OutageEvent event) {
-        for (OutageEventListener listener : listeners) {
+        for (OutageEventListener listener : route(event)) {
             try {
                 listener.onOutageEvent(event);
             } catch (Exception e) {
-                log.error("Error while notifying listener: {}", listener.getClass().getName(), e);
-                throw new OutageEventPublishException("Error while notifying listener", event.getEventId());
+                if (FAILURE_LOG.tryAcquire()) {
+                    log.error("Error while notifying listener: {} for event {}, {} similar failures not logged",
+                            listener.getClass().getName(), event.getEventId(), FAILURE_LOG.takeSuppressed(), e);
+                }
+                throw new OutageEventPublishException("Error while notifying listener", event.getEventId(), e);
+            }
+        }
+    }
+
+    /**
+     * Run every listener concurrently on the listener executor. A listener that fails or exceeds
+     * its timeout is logged on its own and does not hold back or cancel the others.
+     * @param event
+     * @return completes once all listeners are done, exceptionally if any of them failed
+     */
+    public CompletableFuture<Void> publishEventAsync(OutageEvent event) {
+        OutageEventListener[] matching = route(event);
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[matching.length];
+        for (int i = 0; i < matching.length; i++) {
+            notifications[i] = notifyAsync(matching[i], event);
+        }
+        return CompletableFuture.allOf(notifications).handle((ignored, failure) -> {
+            if (failure != null) {
+                throw new OutageEventPublishException("Error while notifying listener", event.getEventId(), failure);
+            }
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> notifyAsync(OutageEventListener listener, OutageEvent event) {
+        CompletableFuture<Void> notification;
+        try {
+            notification = CompletableFuture.runAsync(() -> listener.onOutageEvent(event), executor);
+        } catch (RejectedExecutionException e) {
+            notification = CompletableFuture.failedFuture(e);
+        }
+        return notification
+                .orTimeout(config.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null && FAILURE_LOG.tryAcquire()) {
+                        log.error("Error while notifying listener: {} for event {}, {} similar failures not logged",
+                                listener.getClass().getName(), event.getEventId(), FAILURE_LOG.takeSuppressed(), failure);
+                    }
+                });
+    }
+
+    /**
+     * Listeners whose subscription matches the event, a single table lookup. The array is shared, do not modify it.
+     * @param event
+     * @return
+     */
+    public OutageEventListener[] route(OutageEvent event) {
+        return dispatchIndex[slotOf(event.getSourceSystem(), event.isCritical(), event.getStormLevel())];
+    }
+
+    private static int slotOf(SourceSystemEnum sourceSystem, boolean critical, int stormLevel) {
+        int stormLevels = OutageEventSubscription.MAX_STORM_LEVEL - OutageEventSubscription.MIN_STORM_LEVEL + 1;
+        int storm = OutageEventSubscription.clampStormLevel(stormLevel) - OutageEventSubscription.MIN_STORM_LEVEL;
+        return (sourceSystem.ordinal() * 2 + (critical ? 1 : 0)) * stormLevels + storm;
+    }
+
+    /**
+     * Evaluate every subscription against every cell once, so publishing never runs a filter.
+     */
+    private static OutageEventListener[][] buildDispatchIndex(List<OutageEventListener> listeners) {
+        int stormLevels = OutageEventSubscription.MAX_STORM_LEVEL - OutageEventSubscription.MIN_STORM_LEVEL + 1;
+        OutageEventListener[][] index = new OutageEventListener[SourceSystemEnum.values().length * 2 * stormLevels][];
+        for (SourceSystemEnum sourceSystem : SourceSystemEnum.values()) {
+            for (boolean critical : new boolean[]{false, true}) {
+                for (int storm = OutageEventSubscription.MIN_STORM_LEVEL; storm <= OutageEventSubscription.MAX_STORM_LEVEL; storm++) {
+                    List<OutageEventListener> matching = new ArrayList<>();
+                    for (OutageEventListener listener : listeners) {
+                        if (listener.subscription().matches(sourceSystem, storm, critical)) {
+                            matching.add(listener);
+                        }
+                    }
+                    index[slotOf(sourceSystem, critical, storm)] = matching.toArray(new OutageEventListener[0]);
+                }
             }
         }
+        return index;
     }
 }
@@ -0,0 +1,72 @@
+package com.streamnz.practisee.service.handler.listeners;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import lombok.ToString;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Which events a listener wants: a set of source systems, an inclusive storm level range and
+ * optionally only critical or only non-critical events. Immutable, every filter returns a copy.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:17
+ */
+@ToString
+public final class OutageEventSubscription {
+
+    public static final int MIN_STORM_LEVEL = 0;
+    public static final int MAX_STORM_LEVEL = 10;
+
+    private static final OutageEventSubscription ALL = new OutageEventSubscription(
+            EnumSet.allOf(SourceSystemEnum.class), MIN_STORM_LEVEL, MAX_STORM_LEVEL, null);
+
+    private final Set<SourceSystemEnum> sourceSystems;
+    private final int minStormLevel;
+    private final int maxStormLevel;
+    // null means both critical and non-critical
+    private final Boolean critical;
+
+    private OutageEventSubscription(Set<SourceSystemEnum> sourceSystems, int minStormLevel, int maxStormLevel, Boolean critical) {
+        if (minStormLevel > maxStormLevel) {
+            throw new IllegalArgumentException("minStormLevel must not exceed maxStormLevel");
+        }
+        this.sourceSystems = sourceSystems;
+        this.minStormLevel = minStormLevel;
+        this.maxStormLevel = maxStormLevel;
+        this.critical = critical;
+    }
+
+    public static OutageEventSubscription all() {
+        return ALL;
+    }
+
+    public OutageEventSubscription sourceSystems(SourceSystemEnum first, SourceSystemEnum... rest) {
+        return new OutageEventSubscription(EnumSet.of(first, rest), minStormLevel, maxStormLevel, critical);
+    }
+
+    public OutageEventSubscription stormLevelBetween(int min, int max) {
+        return new OutageEventSubscription(sourceSystems, min, max, critical);
+    }
+
+    public OutageEventSubscription criticalOnly() {
+        return new OutageEventSubscription(sourceSystems, minStormLevel, maxStormLevel, Boolean.TRUE);
+    }
+
+    public OutageEventSubscription nonCriticalOnly() {
+        return new OutageEventSubscription(sourceSystems, minStormLevel, maxStormLevel, Boolean.FALSE);
+    }
+
+    public boolean matches(SourceSystemEnum sourceSystem, int stormLevel, boolean isCritical) {
+        return sourceSystems.contains(sourceSystem)
+                && stormLevel >= minStormLevel && stormLevel <= maxStormLevel
+                && (critical == null || critical == isCritical);
+    }
+
+    /**
+     * Storm level as used for matching: out-of-range values count as the nearest bound.
+     */
+    public static int clampStormLevel(int stormLevel) {
+        return Math.max(MIN_STORM_LEVEL, Math.min(MAX_STORM_LEVEL, stormLevel));
+    }
+}
@@ -14,6 +14,6 @@ public class StandardOutageEventListener implements OutageEventListener{
 
     @Override
     public void onOutageEvent(OutageEvent event) {
-        log.info("StandardOutageEventListener: Received event - " + event);
+        log.debug("StandardOutageEventListener: Received event {}", event.getEventId());
     }
 }
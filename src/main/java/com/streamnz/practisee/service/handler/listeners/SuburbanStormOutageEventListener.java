@@ -14,6 +14,6 @@ public class SuburbanStormOutageEventListener implements OutageEventListener{
 
     @Override
     public void onOutageEvent(OutageEvent event) {
-        log.info("SuburbanStormOutageEventListener: Received event - " + event);
+        log.debug("SuburbanStormOutageEventListener: Received event {}", event.getEventId());
     }
 }
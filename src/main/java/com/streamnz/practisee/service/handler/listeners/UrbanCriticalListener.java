@@ -14,6 +14,6 @@ public class UrbanCriticalListener implements OutageEventListener{
 
     @Override
     public void onOutageEvent(OutageEvent event) {
-        log.info("UrbanCriticalListener: Received event - " + event);
+        log.debug("UrbanCriticalListener: Received event {}", event.getEventId());
     }
 }
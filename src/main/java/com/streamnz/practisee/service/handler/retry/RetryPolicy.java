@@ -0,0 +1,50 @@
+package com.streamnz.practisee.service.handler.retry;
+
+import com.streamnz.practisee.exceptions.OutageCircuitOpenException;
+import com.streamnz.practisee.exceptions.OutageValidationException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Which failures are worth retrying and how long to wait before the next attempt.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:27
+ */
+public final class RetryPolicy {
+
+    private RetryPolicy() {
+    }
+
+    /**
+     * Invalid events fail the same way on every attempt, and an open circuit would only be hit again
+     * while it stays open; anything else may be transient.
+     * @param failure
+     * @return
+     */
+    public static boolean isRetryable(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof OutageValidationException || t instanceof IllegalArgumentException
+                    || t instanceof OutageCircuitOpenException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exponential backoff with full jitter: uniformly random up to {@code initial * 2^(attempt-1)},
+     * capped at {@code max}, so retries of a burst of failures spread out instead of hitting the
+     * database in lockstep.
+     * @param attempt the attempt that just failed, starting at 1
+     * @param initialMillis
+     * @param maxMillis
+     * @return
+     */
+    public static long backoffMillis(int attempt, long initialMillis, long maxMillis) {
+        long ceiling = initialMillis << Math.min(attempt - 1, 30);
+        if (ceiling <= 0 || ceiling > maxMillis) {
+            ceiling = maxMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,145 @@
+package com.streamnz.practisee.service.handler.retry;
+
+import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.exceptions.OutageMaxRetryException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retries failed events off the handling thread. A single timer thread only waits out the
+ * backoff, each attempt then runs on its own virtual thread, so neither an ingress worker nor
+ * the timer is pinned while the database recovers.
+ * <p>
+ * Attempts are not re-submitted through the ingress. A retried event therefore loses its place in
+ * a partitioned lane and can be persisted after later events with the same key.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:27
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RetryScheduler {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final DecoratorConfig config;
+
+    private ScheduledExecutorService timer;
+    private ExecutorService attempts;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        if (config.getMaxRetries() <= 0 || config.getInitialBackoffMillis() < 0
+                || config.getMaxBackoffMillis() < config.getInitialBackoffMillis() || config.getMaxPendingRetries() <= 0) {
+            throw new IllegalStateException("retry.maxRetries and retry.maxPending must be positive, retry.maxBackoffMillis >= retry.initialBackoffMillis >= 0");
+        }
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outage-retry-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        attempts = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outage-retry-", 0).factory());
+    }
+
+    /**
+     * Schedule the remaining attempts for an event whose first attempt failed.
+     * @param event
+     * @param handler
+     * @param failure the failure of the first attempt
+     * @return completes once an attempt succeeds, or exceptionally with the non-retryable failure
+     * or an {@link OutageMaxRetryException} once retries are used up
+     */
+    public CompletableFuture<Void> retry(OutageEvent event, OutageHandler handler, Throwable failure) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!RetryPolicy.isRetryable(failure)) {
+            result.completeExceptionally(failure);
+            return result;
+        }
+        if (pending.incrementAndGet() > config.getMaxPendingRetries()) {
+            pending.decrementAndGet();
+            exhausted.increment();
+            result.completeExceptionally(new OutageMaxRetryException("Retry queue full for event", event.getEventId(), failure));
+            return result;
+        }
+        result.whenComplete((ignored, error) -> pending.decrementAndGet());
+        schedule(event, handler, 1, failure, result);
+        return result;
+    }
+
+    private void schedule(OutageEvent event, OutageHandler handler, int failedAttempts, Throwable failure, CompletableFuture<Void> result) {
+        if (failedAttempts >= config.getMaxRetries()) {
+            exhausted.increment();
+            result.completeExceptionally(new OutageMaxRetryException("Max retries reached for event", event.getEventId(), failure));
+            return;
+        }
+        long delay = RetryPolicy.backoffMillis(failedAttempts, config.getInitialBackoffMillis(), config.getMaxBackoffMillis());
+        try {
+            timer.schedule(() -> attempts.execute(() -> attempt(event, handler, failedAttempts + 1, result)), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new OutageMaxRetryException("Retry scheduler stopped for event", event.getEventId(), failure));
+        }
+    }
+
+    private void attempt(OutageEvent event, OutageHandler handler, int attempt, CompletableFuture<Void> result) {
+        retried.increment();
+        CompletableFuture<Void> persisted;
+        try {
+            log.debug("RetryScheduler: Attempt {} to handle event {}", attempt, event.getEventId());
+            persisted = handler.handle(event);
+        } catch (Exception e) {
+            persisted = CompletableFuture.failedFuture(e);
+        }
+        persisted.whenComplete((ignored, error) -> {
+            if (error == null) {
+                result.complete(null);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (!RetryPolicy.isRetryable(cause)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("RetryScheduler: Error handling event {} on attempt {}: {}", event.getEventId(), attempt, cause.getMessage());
+            }
+            schedule(event, handler, attempt, cause, result);
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        timer.shutdownNow();
+        attempts.shutdown();
+        attempts.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public long getRetriedCount() {
+        return retried.sum();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+}
@@ -1,11 +1,16 @@
 package com.streamnz.practisee.service.impl;
 
+import com.streamnz.practisee.dao.OutageEventBatchWriter;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.OutageService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * @Author cheng hao
@@ -16,12 +21,39 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class OutageServiceImpl implements OutageService {
 
-    // dao layer injection here
+    // only present when persistence.batch.enabled=true
+    private final ObjectProvider<OutageEventBatchWriter> batchWriterProvider;
+
+    private OutageEventBatchWriter batchWriter;
+
+    @PostConstruct
+    public void init() {
+        batchWriter = batchWriterProvider.getIfAvailable();
+    }
 
-    @Transactional(rollbackFor = Exception.class)
+    /**
+     * The batch writer commits in its own transaction, so no per-event transaction is opened here.
+     * @param event
+     */
     @Override
     public void saveEvent(OutageEvent event) {
-        log.info("OutageServiceImpl: Saving event to database - " + event);
+        try {
+            saveEventAsync(event).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> saveEventAsync(OutageEvent event) {
+        if (batchWriter != null) {
+            return batchWriter.submit(event);
+        }
+        log.debug("OutageServiceImpl: Saving event {} to database", event.getEventId());
         // Implement the actual save logic here, e.g., using a repository to persist the event
+        return CompletableFuture.completedFuture(null);
     }
 }
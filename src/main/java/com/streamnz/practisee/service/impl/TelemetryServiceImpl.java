@@ -1,10 +1,17 @@
 package com.streamnz.practisee.service.impl;
 
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.model.dto.LatencySnapshot;
 import com.streamnz.practisee.service.TelemetryService;
+import com.streamnz.practisee.service.telemetry.HandlerTelemetry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @Author cheng hao
  * @Date 06/10/2025 20:29
@@ -14,4 +21,21 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TelemetryServiceImpl implements TelemetryService {
 
+    private final Map<String, HandlerTelemetry> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public HandlerTelemetry forHandler(String handlerName) {
+        return handlers.computeIfAbsent(handlerName, HandlerTelemetry::new);
+    }
+
+    @Override
+    public LatencySnapshot getSnapshot(String handlerName, TelemetryOutcomeEnum outcome) {
+        HandlerTelemetry telemetry = handlers.get(handlerName);
+        return telemetry == null ? new LatencySnapshot(0, 0, 0, 0, 0, 0) : telemetry.snapshot(outcome);
+    }
+
+    @Override
+    public Set<String> getHandlerNames() {
+        return Set.copyOf(handlers.keySet());
+    }
 }
@@ -0,0 +1,27 @@
+package com.streamnz.practisee.service.ingress;
+
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.OutageEventIngress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the handler chain on the caller's thread.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:08
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingress.mode", havingValue = "direct", matchIfMissing = true)
+public class DirectOutageEventIngress implements OutageEventIngress {
+
+    private final OutageEventConsumer consumer;
+
+    @Override
+    public boolean submit(OutageEvent event) {
+        consumer.consume(event);
+        return true;
+    }
+}
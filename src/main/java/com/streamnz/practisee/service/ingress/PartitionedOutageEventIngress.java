@@ -0,0 +1,125 @@
+package com.streamnz.practisee.service.ingress;
+
+import com.streamnz.practisee.config.PartitionConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.OutageEventIngress;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hashes each event's routing key onto one of N single-threaded lanes owned by its source system.
+ * Events sharing a key always land on the same lane, so they are handled in arrival order, and
+ * every source system has its own lanes so a burst on one cannot queue behind another. Events with
+ * neither a feeder nor an eventId have nothing to stay in order with and are spread round-robin.
+ * The order covers first attempts only, retries run outside the lanes, see
+ * {@link com.streamnz.practisee.service.handler.retry.RetryScheduler}.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:09
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingress.mode", havingValue = "partitioned")
+public class PartitionedOutageEventIngress implements OutageEventIngress {
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final OutageEventConsumer consumer;
+
+    private final PartitionConfig config;
+
+    // [source ordinal][lane]
+    private ExecutorService[][] lanes;
+    private LongAdder[] rejected;
+    private final AtomicInteger unkeyed = new AtomicInteger();
+
+    @PostConstruct
+    public void start() {
+        int lanesPerSource = config.getLanesPerSource();
+        if (lanesPerSource <= 0 || config.getLaneCapacity() <= 0) {
+            throw new IllegalStateException("partition.lanesPerSource and partition.laneCapacity must be positive");
+        }
+        SourceSystemEnum[] sources = SourceSystemEnum.values();
+        lanes = new ExecutorService[sources.length][lanesPerSource];
+        rejected = new LongAdder[sources.length];
+        for (SourceSystemEnum source : sources) {
+            rejected[source.ordinal()] = new LongAdder();
+            for (int i = 0; i < lanesPerSource; i++) {
+                String threadName = "outage-" + source.getName().toLowerCase() + "-lane-" + i;
+                lanes[source.ordinal()][i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(config.getLaneCapacity()),
+                        runnable -> new Thread(runnable, threadName));
+            }
+        }
+        log.info("Started partitioned ingress with {} lanes per source system", lanesPerSource);
+    }
+
+    @Override
+    public boolean submit(OutageEvent event) {
+        int source = event.getSourceSystem().ordinal();
+        String routingKey = event.getRoutingKey();
+        int laneCount = lanes[source].length;
+        // the snowflake id is only assigned in the consumer, so unkeyed events must not all hash to lane 0
+        int laneIndex = routingKey != null ? laneOf(routingKey, laneCount) : Math.floorMod(unkeyed.getAndIncrement(), laneCount);
+        ExecutorService lane = lanes[source][laneIndex];
+        try {
+            lane.execute(() -> process(event));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected[source].increment();
+            return false;
+        }
+    }
+
+    private void process(OutageEvent event) {
+        try {
+            consumer.consume(event);
+        } catch (RuntimeException e) {
+            if (FAILURE_LOG.tryAcquire()) {
+                log.error("PartitionedOutageEventIngress: Unhandled error for event {}, {} similar failures not logged: {}",
+                        event.getEventId(), FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+            }
+        }
+    }
+
+    static int laneOf(String routingKey, int laneCount) {
+        int h = routingKey.hashCode();
+        // spread high bits so keys differing only there still separate
+        return Math.floorMod(h ^ (h >>> 16), laneCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (ExecutorService[] sourceLanes : lanes) {
+            for (ExecutorService lane : sourceLanes) {
+                lane.shutdown();
+            }
+        }
+        for (ExecutorService[] sourceLanes : lanes) {
+            for (ExecutorService lane : sourceLanes) {
+                lane.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public long getRejectedCount(SourceSystemEnum source) {
+        return rejected[source.ordinal()].sum();
+    }
+}
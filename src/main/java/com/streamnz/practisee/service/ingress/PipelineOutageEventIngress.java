@@ -0,0 +1,164 @@
+package com.streamnz.practisee.service.ingress;
+
+import com.streamnz.practisee.config.PipelineConfig;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.OutageEventIngress;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers events in a bounded ring buffer and drains them with a pool of worker threads,
+ * so producers never wait on the handler chain (only on a full buffer under BLOCK).
+ * @Author cheng hao
+ * @Date 17/10/2026 02:08
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingress.mode", havingValue = "pipeline")
+public class PipelineOutageEventIngress implements OutageEventIngress {
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
+    // a storm drops thousands of events a second, log a sample and the count in between
+    private static final LogRateLimiter DROP_LOG = new LogRateLimiter(1);
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final OutageEventConsumer consumer;
+
+    private final PipelineConfig config;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private BlockingQueue<OutageEvent> buffer;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (config.getCapacity() <= 0 || config.getWorkers() <= 0) {
+            throw new IllegalStateException("pipeline.capacity and pipeline.workers must be positive");
+        }
+        buffer = new ArrayBlockingQueue<>(config.getCapacity());
+        running = true;
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Thread worker = new Thread(this::drain, "outage-pipeline-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Started ingestion pipeline with capacity={}, workers={}, backpressure={}",
+                config.getCapacity(), config.getWorkers(), config.getBackpressure());
+    }
+
+    @Override
+    public boolean submit(OutageEvent event) {
+        if (!running) {
+            rejected.increment();
+            return false;
+        }
+        switch (config.getBackpressure()) {
+            case BLOCK -> {
+                try {
+                    buffer.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    rejected.increment();
+                    return false;
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    OutageEvent oldest = buffer.poll();
+                    if (oldest != null) {
+                        dropped.increment();
+                        if (DROP_LOG.tryAcquire()) {
+                            log.warn("PipelineOutageEventIngress: Buffer full, dropped event {}, {} other drops not logged, {} dropped in total",
+                                    oldest.getEventId(), DROP_LOG.takeSuppressed(), dropped.sum());
+                        }
+                    }
+                }
+            }
+            case REJECT -> {
+                if (!buffer.offer(event)) {
+                    rejected.increment();
+                    return false;
+                }
+            }
+        }
+        accepted.increment();
+        return true;
+    }
+
+    private void drain() {
+        while (running || !buffer.isEmpty()) {
+            OutageEvent event;
+            try {
+                event = buffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    // keep draining what is left in the buffer
+                    continue;
+                }
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (event == null) {
+                continue;
+            }
+            try {
+                consumer.consume(event);
+            } catch (RuntimeException e) {
+                // a failing event must never take a worker down
+                if (FAILURE_LOG.tryAcquire()) {
+                    log.error("PipelineOutageEventIngress: Unhandled error for event {}, {} similar failures not logged: {}",
+                            event.getEventId(), FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("PipelineOutageEventIngress: Stopped with {} events still buffered", buffer.size());
+        }
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+}
@@ -0,0 +1,146 @@
+package com.streamnz.practisee.service.ingress;
+
+import com.streamnz.practisee.config.PriorityConfig;
+import com.streamnz.practisee.enums.OutagePriorityEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.OutageEventIngress;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one bounded queue per {@link OutagePriorityEnum} and lets workers always take from the
+ * highest non-empty one, so critical and severe-storm events overtake a routine backlog. To bound
+ * starvation, a worker that has taken {@code priority.maxConsecutive} non-routine events in a row
+ * serves one routine event next if any is queued, otherwise it carries on highest first. HIGH never
+ * overtakes CRITICAL this way.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:18
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingress.mode", havingValue = "priority")
+public class PriorityOutageEventIngress implements OutageEventIngress {
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final OutageEventConsumer consumer;
+
+    private final PriorityConfig config;
+
+    // indexed by OutagePriorityEnum ordinal, highest priority first
+    private final List<Queue<OutageEvent>> queues = new ArrayList<>();
+    // one permit per queued event across all queues
+    private final Semaphore queued = new Semaphore(0);
+    private final LongAdder rejected = new LongAdder();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (config.getQueueCapacity() <= 0 || config.getWorkers() <= 0 || config.getMaxConsecutive() <= 0) {
+            throw new IllegalStateException("priority.queueCapacity, priority.workers and priority.maxConsecutive must be positive");
+        }
+        for (int i = 0; i < OutagePriorityEnum.values().length; i++) {
+            queues.add(new ArrayBlockingQueue<>(config.getQueueCapacity()));
+        }
+        running = true;
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Thread worker = new Thread(this::drain, "outage-priority-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Started priority ingress with {} workers, maxConsecutive={}", config.getWorkers(), config.getMaxConsecutive());
+    }
+
+    @Override
+    public boolean submit(OutageEvent event) {
+        OutagePriorityEnum priority = OutagePriorityEnum.of(event);
+        event.setPriority(priority);
+        if (!running || !queues.get(priority.ordinal()).offer(event)) {
+            rejected.increment();
+            return false;
+        }
+        queued.release();
+        return true;
+    }
+
+    private void drain() {
+        int streak = 0;
+        while (running || queued.availablePermits() > 0) {
+            try {
+                if (!queued.tryAcquire(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            OutageEvent event = null;
+            if (streak >= config.getMaxConsecutive()) {
+                // let one routine event through if any is waiting, never a lower non-routine one
+                event = queues.get(OutagePriorityEnum.ROUTINE.ordinal()).poll();
+                streak = 0;
+            }
+            if (event == null) {
+                event = pollHighestFirst();
+            }
+            streak = event.getPriority() == OutagePriorityEnum.ROUTINE ? 0 : streak + 1;
+            try {
+                consumer.consume(event);
+            } catch (RuntimeException e) {
+                if (FAILURE_LOG.tryAcquire()) {
+                    log.error("PriorityOutageEventIngress: Unhandled error for event {}, {} similar failures not logged: {}",
+                            event.getEventId(), FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    // a permit guarantees an event is queued, keep looking until a racing worker's take settles
+    private OutageEvent pollHighestFirst() {
+        while (true) {
+            for (Queue<OutageEvent> queue : queues) {
+                OutageEvent event = queue.poll();
+                if (event != null) {
+                    return event;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+
+    public int getQueuedCount(OutagePriorityEnum priority) {
+        return queues.get(priority.ordinal()).size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
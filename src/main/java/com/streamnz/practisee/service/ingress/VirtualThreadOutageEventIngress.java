@@ -0,0 +1,106 @@
+package com.streamnz.practisee.service.ingress;
+
+import com.streamnz.practisee.config.VirtualThreadConfig;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.OutageEventIngress;
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs every event on its own virtual thread. Waiting for a concurrency permit parks the
+ * virtual thread instead of a platform thread, so thousands of events can be in flight while
+ * only {@code virtual.maxConcurrency} of them hold DB connections.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:10
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingress.mode", havingValue = "virtual")
+public class VirtualThreadOutageEventIngress implements OutageEventIngress {
+
+    private static final LogRateLimiter FAILURE_LOG = new LogRateLimiter(10);
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final OutageEventConsumer consumer;
+
+    private final VirtualThreadConfig config;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private ExecutorService executor;
+    private Semaphore inFlight;
+    private Semaphore concurrency;
+
+    @PostConstruct
+    public void start() {
+        if (config.getMaxConcurrency() <= 0 || config.getMaxInFlight() < config.getMaxConcurrency()) {
+            throw new IllegalStateException("virtual.maxConcurrency must be positive and not exceed virtual.maxInFlight");
+        }
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outage-vt-", 0).factory());
+        inFlight = new Semaphore(config.getMaxInFlight());
+        concurrency = new Semaphore(config.getMaxConcurrency());
+        log.info("Started virtual thread ingress with maxConcurrency={}, maxInFlight={}",
+                config.getMaxConcurrency(), config.getMaxInFlight());
+    }
+
+    @Override
+    public boolean submit(OutageEvent event) {
+        if (!inFlight.tryAcquire()) {
+            rejected.increment();
+            return false;
+        }
+        executor.execute(() -> process(event));
+        return true;
+    }
+
+    private void process(OutageEvent event) {
+        try {
+            concurrency.acquire();
+            try {
+                consumer.consume(event);
+            } finally {
+                concurrency.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("VirtualThreadOutageEventIngress: Interrupted before handling event {}", event.getEventId());
+        } catch (RuntimeException e) {
+            if (FAILURE_LOG.tryAcquire()) {
+                log.error("VirtualThreadOutageEventIngress: Unhandled error for event {}, {} similar failures not logged: {}",
+                        event.getEventId(), FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+            }
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            log.warn("VirtualThreadOutageEventIngress: Stopped with {} events still in flight", getInFlightCount());
+        }
+    }
+
+    public int getInFlightCount() {
+        return config.getMaxInFlight() - inFlight.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,38 @@
+package com.streamnz.practisee.service.telemetry;
+
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.model.dto.LatencySnapshot;
+import lombok.Getter;
+
+/**
+ * Latency histograms of a single handler, one per outcome. Resolve it once and keep it, so the
+ * hot path records without any lookup.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:20
+ */
+public class HandlerTelemetry {
+
+    @Getter
+    private final String handlerName;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[TelemetryOutcomeEnum.values().length];
+
+    public HandlerTelemetry(String handlerName) {
+        this.handlerName = handlerName;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public void recordSuccess(long nanos) {
+        histograms[TelemetryOutcomeEnum.SUCCESS.ordinal()].record(nanos);
+    }
+
+    public void recordFailure(long nanos) {
+        histograms[TelemetryOutcomeEnum.FAILURE.ordinal()].record(nanos);
+    }
+
+    public LatencySnapshot snapshot(TelemetryOutcomeEnum outcome) {
+        return histograms[outcome.ordinal()].snapshot();
+    }
+}
@@ -0,0 +1,66 @@
+package com.streamnz.practisee.service.telemetry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps how many failures per second are logged in full, so a storm of identical failures
+ * costs a counter increment each instead of a formatted stack trace. Failures past the cap
+ * are counted and reported with the next one that is logged.
+ * <pre>
+ * if (FAILURE_LOG.tryAcquire()) {
+ *     log.error("...: {} similar failures not logged", ..., FAILURE_LOG.takeSuppressed(), e);
+ * }
+ * </pre>
+ * @Author cheng hao
+ * @Date 17/10/2026 02:51
+ */
+public class LogRateLimiter {
+
+    private final int permitsPerSecond;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong windowStart;
+
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogRateLimiter(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    public LogRateLimiter(int permitsPerSecond, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * @return true if this failure may be logged, otherwise it is counted as suppressed
+     */
+    public boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= TimeUnit.SECONDS.toNanos(1) && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        // read before incrementing, so a saturated window does not keep bouncing a shared counter
+        if (permitsUsed.get() < permitsPerSecond && permitsUsed.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * @return failures suppressed since the last call
+     */
+    public long takeSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
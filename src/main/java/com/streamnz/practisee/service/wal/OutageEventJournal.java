@@ -0,0 +1,172 @@
+package com.streamnz.practisee.service.wal;
+
+import com.streamnz.practisee.codec.OutageEventCodec;
+import com.streamnz.practisee.config.WalConfig;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.storage.MappedAppendLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-ahead journal in front of the consumer. Every accepted event is appended (group
+ * committed, see {@link MappedAppendLog}) before it is dispatched and marked complete once its
+ * handler has persisted it; a repeat absorbed by the
+ * {@link com.streamnz.practisee.service.coalesce.OutageEventCoalescer} stays in flight until the
+ * consolidated event standing for it has. The checkpoint is the offset of the oldest event still in flight, it
+ * is written to a small file periodically and everything before it is deleted; on startup the
+ * journal from the checkpoint on is handed back for re-dispatch, so an event accepted before a
+ * crash is processed at least once.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:35
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "wal.enabled", havingValue = "true")
+public class OutageEventJournal {
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    /**
+     * Receives journaled events that were not checkpointed before the last shutdown.
+     */
+    @FunctionalInterface
+    public interface RecoveredEventHandler {
+        void accept(OutageEvent event, long offset);
+    }
+
+    private final WalConfig config;
+
+    private MappedAppendLog appendLog;
+    private Path checkpointPath;
+    private ScheduledExecutorService checkpointer;
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private volatile long checkpoint;
+    // end of the journal as found on startup, recovery stops here
+    private long recoveryEnd;
+    // while recovering, records from here on are not in flight yet but must not be checkpointed
+    private volatile long recoveryCursor = Long.MAX_VALUE;
+
+    @PostConstruct
+    public void start() throws IOException {
+        Path directory = Path.of(config.getDirectory());
+        appendLog = new MappedAppendLog(directory, config.getSegmentBytes(), config.getForceEveryAppends(), config.getForceIntervalMillis());
+        checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        checkpoint = Files.exists(checkpointPath) ? ByteBuffer.wrap(Files.readAllBytes(checkpointPath)).getLong() : 0;
+        recoveryEnd = appendLog.getEndOffset();
+        if (checkpoint < recoveryEnd) {
+            recoveryCursor = Math.max(checkpoint, appendLog.getFirstOffset());
+        }
+        checkpointer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outage-wal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointer.scheduleWithFixedDelay(this::checkpointQuietly, config.getCheckpointIntervalMillis(),
+                config.getCheckpointIntervalMillis(), TimeUnit.MILLISECONDS);
+        log.info("OutageEventJournal: Opened at checkpoint {}, {} bytes to recover", checkpoint, recoveryEnd - checkpoint);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        checkpointer.shutdownNow();
+        checkpoint();
+        appendLog.close();
+    }
+
+    /**
+     * @param event
+     * @return journal offset to pass to {@link #complete}
+     */
+    public synchronized long append(OutageEvent event) {
+        long offset = appendLog.append(OutageEventCodec.encodedSize(event), event, OutageEventCodec::encode);
+        inFlight.add(offset);
+        return offset;
+    }
+
+    /**
+     * The event at the offset has been persisted or given up on.
+     * @param offset
+     */
+    public void complete(long offset) {
+        inFlight.remove(offset);
+    }
+
+    /**
+     * Hand every event between the checkpoint and the end of the journal as found on startup to
+     * the handler, in journal order. Each one stays in flight until completed.
+     * @param handler
+     * @return number of recovered events
+     */
+    public long recover(RecoveredEventHandler handler) {
+        if (recoveryCursor == Long.MAX_VALUE) {
+            return 0;
+        }
+        long[] recovered = {0};
+        appendLog.read(recoveryCursor, (offset, payload) -> {
+            if (offset >= recoveryEnd) {
+                return false;
+            }
+            inFlight.add(offset);
+            recoveryCursor = offset + MappedAppendLog.HEADER_BYTES + payload.remaining();
+            handler.accept(OutageEventCodec.decode(payload), offset);
+            recovered[0]++;
+            return true;
+        });
+        recoveryCursor = Long.MAX_VALUE;
+        return recovered[0];
+    }
+
+    /**
+     * Persist the offset before which every event is complete and drop the segments below it.
+     * @return the checkpoint
+     */
+    public synchronized long checkpoint() {
+        Long oldest = inFlight.ceiling(Long.MIN_VALUE);
+        long safe = Math.min(oldest != null ? oldest : appendLog.getEndOffset(), recoveryCursor);
+        if (safe <= checkpoint) {
+            return checkpoint;
+        }
+        try {
+            Path temp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+            Files.write(temp, ByteBuffer.allocate(Long.BYTES).putLong(safe).array());
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write journal checkpoint", e);
+        }
+        checkpoint = safe;
+        appendLog.truncateBefore(safe);
+        return safe;
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.error("OutageEventJournal: Checkpoint failed: {}", e.getMessage(), e);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getCheckpoint() {
+        return checkpoint;
+    }
+}
@@ -0,0 +1,58 @@
+package com.streamnz.practisee.service.wal;
+
+import com.streamnz.practisee.config.WalConfig;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Re-dispatches events left in the journal by a crash once the application is ready, on
+ * virtual threads bounded by {@code wal.recoveryConcurrency} so a large journal drains in
+ * parallel instead of one handler call at a time.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:35
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "wal.enabled", havingValue = "true")
+public class OutageEventJournalRecovery {
+
+    private final OutageEventJournal journal;
+
+    private final OutageEventConsumer consumer;
+
+    private final WalConfig config;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(config.getRecoveryConcurrency());
+        long recovered;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            recovered = journal.recover((event, offset) -> {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        consumer.consumeRecovered(event, offset);
+                    } catch (RuntimeException e) {
+                        log.error("OutageEventJournalRecovery: Error re-dispatching event {}: {}", event.getEventId(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            });
+        }
+        if (recovered > 0) {
+            log.info("OutageEventJournalRecovery: Re-dispatched {} journaled events in {} ms", recovered, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
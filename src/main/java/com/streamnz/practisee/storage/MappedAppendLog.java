@@ -0,0 +1,376 @@
+package com.streamnz.practisee.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import sun.misc.Unsafe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only record log over memory-mapped segment files. A record is
+ * {@code [int length][int crc32c][payload]}, the length is written last so a torn record is
+ * never visible, and records are addressed by their logical byte offset across segments.
+ * Appends only copy into the mapping; pages are forced to disk every
+ * {@code forceEveryAppends} appends and every {@code forceIntervalMillis} (group commit),
+ * so a crash loses at most that window. The msync runs outside the append lock, so appends keep
+ * copying into the mapping while it waits for the disk. Opening a directory scans the last
+ * segment and resumes after its last intact record.
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+@Slf4j
+public class MappedAppendLog implements Closeable {
+
+    public static final int HEADER_BYTES = 8;
+    private static final String SUFFIX = ".log";
+
+    private static final Unsafe UNSAFE = loadUnsafe();
+
+    /**
+     * Receives records in offset order.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        /**
+         * @param offset logical offset of the record
+         * @param payload read-only view of the payload, only valid during the call
+         * @return false to stop before consuming this record
+         */
+        boolean accept(long offset, ByteBuffer payload);
+    }
+
+    private static final class Segment {
+        private final long baseOffset;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        // next write position, only used on the active segment
+        private int position;
+
+        private Segment(long baseOffset, Path path, int size) throws IOException {
+            this.baseOffset = baseOffset;
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+        }
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int forceEveryAppends;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService flusher;
+    // held shared while a mapping is read or forced outside the monitor, exclusively to unmap one
+    private final ReadWriteLock mappingLock = new ReentrantReadWriteLock();
+
+    // guarded by this
+    private Segment active;
+    private int unforced;
+    // published after a record is complete, readers never go past it
+    private volatile long endOffset;
+
+    public MappedAppendLog(Path directory, int segmentBytes, int forceEveryAppends, long forceIntervalMillis) throws IOException {
+        if (segmentBytes <= HEADER_BYTES || forceEveryAppends <= 0) {
+            throw new IllegalArgumentException("segmentBytes must exceed the record header and forceEveryAppends must be positive");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.forceEveryAppends = forceEveryAppends;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).toList()) {
+                String name = path.getFileName().toString();
+                long baseOffset = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+                segments.put(baseOffset, new Segment(baseOffset, path, 0));
+            }
+        }
+        if (segments.isEmpty()) {
+            active = openSegment(0);
+        } else {
+            active = segments.lastEntry().getValue();
+            active.position = scanEnd(active);
+        }
+        endOffset = active.baseOffset + active.position;
+        log.info("MappedAppendLog: Opened {} with {} segments, end offset {}", directory, segments.size(), endOffset);
+        if (forceIntervalMillis > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "append-log-flusher-" + directory.getFileName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::forceIfDirty, forceIntervalMillis, forceIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    private Segment openSegment(long baseOffset) throws IOException {
+        Segment segment = new Segment(baseOffset, directory.resolve(String.format("%020d%s", baseOffset, SUFFIX)), segmentBytes);
+        segments.put(baseOffset, segment);
+        return segment;
+    }
+
+    // position after the last record whose length and checksum are intact
+    private int scanEnd(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        CRC32C check = new CRC32C();
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            check.reset();
+            check.update(buffer.slice(position + HEADER_BYTES, length));
+            if ((int) check.getValue() != buffer.getInt(position + 4)) {
+                log.warn("MappedAppendLog: Torn record at offset {} in {}, truncating", segment.baseOffset + position, segment.path);
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    /**
+     * Append the remaining bytes of the payload, the payload's position is left untouched.
+     * @param payload
+     * @return logical offset of the record
+     */
+    public long append(ByteBuffer payload) {
+        return append(payload.remaining(), payload, (source, target) -> target.put(source.duplicate()));
+    }
+
+    /**
+     * Append a record serialized by the writer straight into the mapping, without an
+     * intermediate buffer.
+     * @param length exact number of bytes the writer puts
+     * @param value
+     * @param writer writes the value at the position of a buffer limited to {@code length} bytes
+     * @return logical offset of the record
+     */
+    public <T> long append(int length, T value, BiConsumer<T, ByteBuffer> writer) {
+        if (length <= 0 || HEADER_BYTES + length > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit a segment of " + segmentBytes);
+        }
+        Segment retired = null;
+        Segment dirty = null;
+        long offset;
+        synchronized (this) {
+            if (active.position + HEADER_BYTES + length > active.buffer.capacity()) {
+                retired = active;
+                roll();
+            }
+            int position = active.position;
+            MappedByteBuffer buffer = active.buffer;
+            ByteBuffer record = buffer.slice(position + HEADER_BYTES, length);
+            writer.accept(value, record);
+            if (record.hasRemaining()) {
+                throw new IllegalStateException("Writer put " + record.position() + " of " + length + " bytes");
+            }
+            crc.reset();
+            crc.update(record.flip());
+            buffer.putInt(position + 4, (int) crc.getValue());
+            buffer.putInt(position, length);
+            active.position = position + HEADER_BYTES + length;
+            endOffset = active.baseOffset + active.position;
+            if (++unforced >= forceEveryAppends) {
+                dirty = active;
+                unforced = 0;
+            }
+            offset = active.baseOffset + position;
+        }
+        force(retired);
+        force(dirty);
+        return offset;
+    }
+
+    // the caller forces the retired segment once it has left the monitor
+    private void roll() {
+        unforced = 0;
+        try {
+            active = openSegment(active.baseOffset + active.position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open a new segment in " + directory, e);
+        }
+    }
+
+    /**
+     * Flush appended records of the active segment to disk.
+     */
+    public void force() {
+        Segment dirty;
+        synchronized (this) {
+            dirty = active;
+            unforced = 0;
+        }
+        force(dirty);
+    }
+
+    private void forceIfDirty() {
+        Segment dirty;
+        synchronized (this) {
+            if (unforced == 0) {
+                return;
+            }
+            dirty = active;
+            unforced = 0;
+        }
+        force(dirty);
+    }
+
+    private void force(Segment segment) {
+        if (segment == null) {
+            return;
+        }
+        mappingLock.readLock().lock();
+        try {
+            // a retired segment may have been truncated meanwhile, its records are no longer needed
+            if (segments.get(segment.baseOffset) == segment) {
+                segment.buffer.force();
+            }
+        } finally {
+            mappingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit records from {@code fromOffset}, which must be a record offset or a value returned by
+     * an earlier read, up to the end of the log as of the call.
+     * @param fromOffset
+     * @param visitor
+     * @return offset of the first record not consumed
+     */
+    public long read(long fromOffset, RecordVisitor visitor) {
+        mappingLock.readLock().lock();
+        try {
+            return readMapped(fromOffset, visitor);
+        } finally {
+            mappingLock.readLock().unlock();
+        }
+    }
+
+    private long readMapped(long fromOffset, RecordVisitor visitor) {
+        long end = endOffset;
+        long offset = Math.max(fromOffset, getFirstOffset());
+        while (offset < end) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+            Segment segment = entry.getValue();
+            Long nextBase = segments.higherKey(segment.baseOffset);
+            int position = (int) (offset - segment.baseOffset);
+            if ((nextBase != null && offset >= nextBase) || position + HEADER_BYTES > segment.buffer.capacity()
+                    || segment.buffer.getInt(position) <= 0) {
+                if (nextBase == null) {
+                    break;
+                }
+                offset = nextBase;
+                continue;
+            }
+            int length = segment.buffer.getInt(position);
+            if (!visitor.accept(offset, segment.buffer.slice(position + HEADER_BYTES, length).asReadOnlyBuffer())) {
+                return offset;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    /**
+     * Delete whole segments that only hold records before the offset, the active segment is kept.
+     * Their mappings are released straight away rather than when the buffers are collected, so the
+     * disk space is freed with the files; this waits for reads in progress.
+     * @param offset
+     * @return number of deleted segments
+     */
+    public synchronized int truncateBefore(long offset) {
+        List<Segment> obsolete = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            Long nextBase = segments.higherKey(segment.baseOffset);
+            if (segment == active || nextBase == null || nextBase > offset) {
+                break;
+            }
+            obsolete.add(segment);
+        }
+        if (obsolete.isEmpty()) {
+            return 0;
+        }
+        mappingLock.writeLock().lock();
+        try {
+            for (Segment segment : obsolete) {
+                segments.remove(segment.baseOffset);
+                unmap(segment.buffer);
+                try {
+                    segment.channel.close();
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    log.warn("MappedAppendLog: Cannot delete segment {}: {}", segment.path, e.getMessage());
+                }
+            }
+        } finally {
+            mappingLock.writeLock().unlock();
+        }
+        return obsolete.size();
+    }
+
+    public long getFirstOffset() {
+        return segments.firstKey();
+    }
+
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        force();
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (UNSAFE != null) {
+            UNSAFE.invokeCleaner(buffer);
+        }
+    }
+
+    // the JDK has no public way to unmap a MappedByteBuffer before Java 22's Arena-backed mappings
+    private static Unsafe loadUnsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("MappedAppendLog: Cannot unmap truncated segments, they are released on GC: {}", e.toString());
+            return null;
+        }
+    }
+}
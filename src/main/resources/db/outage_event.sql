@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS outage_event (
+    event_id          VARCHAR(64)  NOT NULL PRIMARY KEY,
+    feeder_id         VARCHAR(64),
+    source_system     VARCHAR(16)  NOT NULL,
+    event_time        TIMESTAMP    NOT NULL,
+    storm_level       INT          NOT NULL,
+    is_critical       BOOLEAN      NOT NULL,
+    event_description VARCHAR(512),
+    -- upstream events coalesced into this one, see OutageEventCoalescer
+    occurrences       INT          NOT NULL DEFAULT 1
+);
+-- tables created before occurrences was added:
+-- ALTER TABLE outage_event ADD COLUMN occurrences INT NOT NULL DEFAULT 1;
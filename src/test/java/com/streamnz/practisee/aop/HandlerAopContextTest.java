@@ -0,0 +1,77 @@
+package com.streamnz.practisee.aop;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageService;
+import com.streamnz.practisee.service.TelemetryService;
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Retry and telemetry in handler.crosscutting=AOP mode, through the proxies Spring creates.
+ * @Author cheng hao
+ * @Date 17/10/2026 04:10
+ */
+@SpringBootTest(properties = {"handler.crosscutting=AOP", "retry.initialBackoffMillis=1", "retry.maxBackoffMillis=1"})
+@DisplayName("Handler AOP Context Test")
+public class HandlerAopContextTest {
+
+    @Autowired
+    private HandlerRegister handlerRegister;
+
+    @Autowired
+    private TelemetryService telemetryService;
+
+    @MockitoBean
+    private OutageService outageService;
+
+    @Test
+    @DisplayName("Should retry a failing handler and record both attempts through the proxy")
+    void shouldRetryThroughProxy() throws Exception {
+        // given
+        OutageEvent event = new OutageEvent("aop-1", SourceSystemEnum.SCADA, Instant.now());
+        when(outageService.saveEventAsync(event))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        OutageHandler handler = handlerRegister.getHandler(SourceSystemEnum.SCADA);
+        // when
+        handler.handle(event).join();
+        // then
+        assertThat(AopUtils.isAopProxy(handler)).isTrue();
+        verify(outageService, times(2)).saveEventAsync(event);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.FAILURE).count()).isEqualTo(1);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry a write that fails after the handler returned")
+    void shouldRetryFailedWriteThroughProxy() throws Exception {
+        // given
+        OutageEvent event = new OutageEvent("aop-2", SourceSystemEnum.DMS, Instant.now());
+        when(outageService.saveEventAsync(event))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        OutageHandler handler = handlerRegister.getHandler(SourceSystemEnum.DMS);
+        // when
+        handler.handle(event).join();
+        // then
+        verify(outageService, times(2)).saveEventAsync(event);
+        assertThat(telemetryService.getSnapshot("DMSHandler", TelemetryOutcomeEnum.FAILURE).count()).isEqualTo(1);
+        assertThat(telemetryService.getSnapshot("DMSHandler", TelemetryOutcomeEnum.SUCCESS).count()).isEqualTo(1);
+    }
+}
@@ -1,21 +1,34 @@
 package com.streamnz.practisee.aop;
 
 import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
 import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.OutageService;
-import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.TelemetryService;
 import com.streamnz.practisee.service.handler.SCADAHandler;
+import com.streamnz.practisee.service.handler.aop.RetryAspect;
+import com.streamnz.practisee.service.handler.aop.TelemetryAspect;
 import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.impl.TelemetryServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for SCADAHandler with AOP
@@ -32,26 +45,66 @@ public class SCADAHandlerAopTest {
     @Mock
     private OutageEventListenerRegister listenerRegister;
 
-    @Mock
-    private HandlerRegister handlerRegister;
+    private final TelemetryService telemetryService = new TelemetryServiceImpl();
 
     private SCADAHandler handler;
     private OutageEvent event;
 
     @BeforeEach
     void setUp() {
-        handler = new SCADAHandler(outageService, listenerRegister);
+        RetryAspect retryAspect = new RetryAspect();
+        ReflectionTestUtils.setField(retryAspect, "maxRetries", 3);
+        ReflectionTestUtils.setField(retryAspect, "retryEnabled", true);
+        // a CGLIB proxy of the class, as Spring Boot creates it
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SCADAHandler(outageService, listenerRegister));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(retryAspect);
+        proxyFactory.addAspect(new TelemetryAspect(telemetryService));
+        handler = proxyFactory.getProxy();
         event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
     }
 
     @Test
     @DisplayName("Should handle event with AOP support")
-    void shouldHandleEventWithAop() {
+    void shouldHandleEventWithAop() throws Exception {
+        // given
+        when(outageService.saveEventAsync(event)).thenReturn(CompletableFuture.completedFuture(null));
+        // when
+        handler.handle(event).join();
+
+        // then
+        assertThat(AopUtils.isCglibProxy(handler)).isTrue();
+        verify(outageService).saveEventAsync(event);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry a type-annotated handler through the aspect")
+    void shouldRetryThroughAspect() throws Exception {
+        // given
+        when(outageService.saveEventAsync(event)).thenReturn(
+                CompletableFuture.failedFuture(new IllegalStateException("db down")), CompletableFuture.completedFuture(null));
         // when
-        handler.handle(event);
-        
+        handler.handle(event).join();
         // then
-        verify(outageService).saveEvent(event);
-        // AOP 会自动应用重试和遥测功能
+        verify(outageService, times(2)).saveEventAsync(event);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.FAILURE).count()).isEqualTo(1);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the interrupt and stop retrying when interrupted during the backoff")
+    void shouldStopRetryingWhenInterrupted() {
+        // given
+        when(outageService.saveEventAsync(event)).thenThrow(new IllegalStateException("db down"));
+        Thread.currentThread().interrupt();
+        try {
+            // when & then
+            assertThatThrownBy(() -> handler.handle(event)).isInstanceOf(OutageProcessingException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            verify(outageService).saveEventAsync(event);
+        } finally {
+            Thread.interrupted();
+        }
     }
 }
@@ -0,0 +1,175 @@
+package com.streamnz.practisee.circuit;
+
+import com.streamnz.practisee.config.CircuitBreakerConfig;
+import com.streamnz.practisee.enums.CircuitStateEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageCircuitOpenException;
+import com.streamnz.practisee.exceptions.OutageValidationException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.decorator.CircuitBreakerDecorator;
+import com.streamnz.practisee.service.handler.decorator.RetryDecorator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:29
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CircuitBreakerDecorator Test")
+public class CircuitBreakerDecoratorTest {
+
+    @Mock
+    private CircuitBreakerConfig config;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean failing = new AtomicBoolean(true);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final OutageHandler handler = event -> {
+        calls.incrementAndGet();
+        if (failing.get()) {
+            throw new IllegalStateException("db down");
+        }
+        return CompletableFuture.completedFuture(null);
+    };
+
+    @BeforeEach
+    void setUp() {
+        when(config.getWindowSize()).thenReturn(10);
+        when(config.getMinimumCalls()).thenReturn(4);
+        when(config.getFailureRateThreshold()).thenReturn(50);
+        when(config.getOpenMillis()).thenReturn(1000L);
+        when(config.getHalfOpenProbes()).thenReturn(2);
+        when(config.getMaxConcurrent()).thenReturn(8);
+    }
+
+    private static OutageEvent event(String eventId) {
+        return new OutageEvent(eventId, SourceSystemEnum.SCADA, Instant.now());
+    }
+
+    private CircuitBreakerDecorator openedCircuit() {
+        CircuitBreakerDecorator decorator = new CircuitBreakerDecorator(handler, config, clock::get);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> decorator.handle(event("failed"))).isInstanceOf(IllegalStateException.class);
+        }
+        return decorator;
+    }
+
+    @Test
+    @DisplayName("Should open after the failure rate threshold and fail fast instead of calling the handler")
+    void shouldOpenAndFailFast() {
+        // given
+        CircuitBreakerDecorator decorator = openedCircuit();
+        // when & then
+        assertThatThrownBy(() -> decorator.handle(event("rejected-1"))).isInstanceOf(OutageCircuitOpenException.class);
+        assertThatThrownBy(() -> decorator.handle(event("rejected-2"))).isInstanceOf(OutageCircuitOpenException.class);
+        assertThat(decorator.getState()).isEqualTo(CircuitStateEnum.OPEN);
+        assertThat(decorator.getShortCircuitedCount()).isEqualTo(2);
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not retry a call the open circuit rejected")
+    void shouldNotRetryWhenOpen() {
+        // given
+        CircuitBreakerDecorator decorator = openedCircuit();
+        RetryDecorator retrying = new RetryDecorator(decorator, 3, 1000, 1000);
+        // when & then
+        assertThatThrownBy(() -> retrying.handle(event("rejected"))).isInstanceOf(OutageCircuitOpenException.class);
+        assertThat(decorator.getShortCircuitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close after successful probes")
+    void shouldClose() throws Exception {
+        // given
+        CircuitBreakerDecorator decorator = openedCircuit();
+        assertThatThrownBy(() -> decorator.handle(event("rejected"))).isInstanceOf(OutageCircuitOpenException.class);
+        failing.set(false);
+        clock.addAndGet(1000);
+        // when
+        decorator.handle(event("probe-1"));
+        assertThat(decorator.getState()).isEqualTo(CircuitStateEnum.HALF_OPEN);
+        decorator.handle(event("probe-2"));
+        // then
+        assertThat(decorator.getState()).isEqualTo(CircuitStateEnum.CLOSED);
+        decorator.handle(event("after-close"));
+        assertThat(calls.get()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should reopen when a probe fails")
+    void shouldReopenOnFailedProbe() {
+        // given
+        CircuitBreakerDecorator decorator = openedCircuit();
+        clock.addAndGet(1000);
+        // when
+        assertThatThrownBy(() -> decorator.handle(event("probe"))).isInstanceOf(IllegalStateException.class);
+        // then
+        assertThat(decorator.getState()).isEqualTo(CircuitStateEnum.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should not count validation failures")
+    void shouldIgnoreValidationFailures() {
+        // given
+        CircuitBreakerDecorator decorator = new CircuitBreakerDecorator(event -> {
+            throw new OutageValidationException("Missing eventTime", event.getEventId());
+        }, config, clock::get);
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> decorator.handle(event("invalid"))).isInstanceOf(OutageValidationException.class);
+        }
+        // then
+        assertThat(decorator.getState()).isEqualTo(CircuitStateEnum.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the bulkhead is full")
+    void shouldRejectWhenBulkheadFull() throws Exception {
+        // given
+        when(config.getMaxConcurrent()).thenReturn(1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CircuitBreakerDecorator decorator = new CircuitBreakerDecorator(event -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableFuture.completedFuture(null);
+        }, config, clock::get);
+        Thread busy = Thread.ofVirtual().start(() -> {
+            try {
+                decorator.handle(event("busy"));
+            } catch (Exception ignored) {
+            }
+        });
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+        // when & then
+        assertThatThrownBy(() -> decorator.handle(event("rejected"))).isInstanceOf(OutageCircuitOpenException.class);
+        assertThat(decorator.getBulkheadRejectedCount()).isEqualTo(1);
+        assertThat(decorator.getState()).isEqualTo(CircuitStateEnum.CLOSED);
+        release.countDown();
+        busy.join();
+    }
+}
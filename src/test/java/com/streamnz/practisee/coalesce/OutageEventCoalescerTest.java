@@ -0,0 +1,268 @@
+package com.streamnz.practisee.coalesce;
+
+import com.streamnz.practisee.config.CoalesceConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.exceptions.OutageProcessingException;
+import com.streamnz.practisee.service.OutageEventIngress;
+import com.streamnz.practisee.service.coalesce.OutageEventCoalescer;
+import com.streamnz.practisee.service.dedup.OutageEventDeduplicator;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.id.SnowflakeIdGenerator;
+import com.streamnz.practisee.service.wal.OutageEventJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 03:12
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventCoalescer Test")
+public class OutageEventCoalescerTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Mock
+    private CoalesceConfig config;
+
+    @Mock
+    private ObjectProvider<OutageEventIngress> ingressProvider;
+
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+
+    @Mock
+    private OutageEventDeduplicator deduplicator;
+
+    @Mock
+    private ObjectProvider<OutageEventJournal> journalProvider;
+
+    @Mock
+    private OutageEventJournal journal;
+
+    @Mock
+    private ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+
+    @Mock
+    private OutageDeadLetterQueue deadLetterQueue;
+
+    private OutageEventCoalescer coalescer;
+
+    private final List<OutageEvent> emitted = new ArrayList<>();
+
+    private final AtomicLong ids = new AtomicLong(1000);
+
+    private boolean refusing;
+
+    private OutageEventCoalescer newCoalescer(int capacity) {
+        when(config.getCapacity()).thenReturn(capacity);
+        when(config.getWindowMillis()).thenReturn(1000L);
+        OutageEventIngress ingress = event -> !refusing && emitted.add(event);
+        lenient().when(ingressProvider.getIfAvailable()).thenReturn(ingress);
+        lenient().when(idGenerator.nextId()).thenAnswer(invocation -> ids.incrementAndGet());
+        when(journalProvider.getIfAvailable()).thenReturn(journal);
+        when(deadLetterQueueProvider.getIfAvailable()).thenReturn(deadLetterQueue);
+        // not started, the tests close windows through flushExpired
+        OutageEventCoalescer coalescer = new OutageEventCoalescer(config, ingressProvider, idGenerator, deduplicator,
+                journalProvider, deadLetterQueueProvider);
+        coalescer.init();
+        return coalescer;
+    }
+
+    private static OutageEvent event(SourceSystemEnum source, String feederId, int stormLevel, boolean critical) {
+        OutageEvent event = new OutageEvent(null, source, Instant.now());
+        event.setFeederId(feederId);
+        event.setStormLevel(stormLevel);
+        event.setCritical(critical);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should pass the first event through and emit one consolidated event for the repeats when the window closes")
+    void shouldMergeRepeats() {
+        // given
+        coalescer = newCoalescer(64);
+        OutageEvent second = event(SourceSystemEnum.SCADA, "F-1", 7, false);
+        OutageEvent third = event(SourceSystemEnum.SCADA, "F-1", 3, false);
+        // when
+        boolean firstAbsorbed = coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 2, false), 10, 0);
+        boolean secondAbsorbed = coalescer.offer(second, 11, 10);
+        boolean thirdAbsorbed = coalescer.offer(third, 12, 20);
+        coalescer.flushExpired(WINDOW_NANOS - 1);
+        assertThat(emitted).isEmpty();
+        coalescer.flushExpired(WINDOW_NANOS);
+        // then
+        assertThat(firstAbsorbed).isFalse();
+        assertThat(secondAbsorbed).isTrue();
+        assertThat(thirdAbsorbed).isTrue();
+        assertThat(emitted).singleElement().satisfies(consolidated -> {
+            assertThat(consolidated.getFeederId()).isEqualTo("F-1");
+            assertThat(consolidated.getSourceSystem()).isEqualTo(SourceSystemEnum.SCADA);
+            assertThat(consolidated.getStormLevel()).isEqualTo(7);
+            assertThat(consolidated.getOccurrences()).isEqualTo(2);
+            assertThat(consolidated.hasEventId()).isTrue();
+        });
+        assertThat(coalescer.getAbsorbedCount()).isEqualTo(2);
+        // the consolidated event comes back through the ingress and must pass straight through
+        OutageEvent consolidated = emitted.get(0);
+        assertThat(coalescer.offer(consolidated, 13, WINDOW_NANOS + 1)).isFalse();
+        // the repeats stay journaled until the consolidated event has been persisted
+        verify(journal, never()).complete(anyLong());
+        coalescer.settle(consolidated, false);
+        verify(journal).complete(11);
+        verify(journal).complete(12);
+        verify(deduplicator, never()).forget(any());
+    }
+
+    @Test
+    @DisplayName("Should leave the leading event, already dispatched on its own, out of the consolidated event")
+    void shouldLeaveOutLeadingEvent() {
+        // given
+        coalescer = newCoalescer(64);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 9, false), 10, 0);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 11, 10);
+        // when
+        coalescer.flushExpired(WINDOW_NANOS);
+        // then
+        assertThat(emitted).singleElement().satisfies(consolidated -> {
+            assertThat(consolidated.getStormLevel()).isEqualTo(1);
+            assertThat(consolidated.getOccurrences()).isEqualTo(1);
+        });
+        assertThat(coalescer.offer(emitted.get(0), 12, WINDOW_NANOS + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pass critical events straight through without opening or joining a window")
+    void shouldPassCriticalThrough() {
+        // given
+        coalescer = newCoalescer(64);
+        // when
+        boolean criticalLeader = coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, true), 10, 0);
+        boolean leader = coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 11, 10);
+        boolean criticalRepeat = coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, true), 12, 20);
+        coalescer.flushExpired(WINDOW_NANOS + 10);
+        // then
+        assertThat(criticalLeader).isFalse();
+        assertThat(leader).isFalse();
+        assertThat(criticalRepeat).isFalse();
+        assertThat(emitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should forget and complete the repeats of a consolidated event that failed")
+    void shouldForgetRepeatsOfFailedEvent() {
+        // given
+        coalescer = newCoalescer(64);
+        OutageEvent repeat = event(SourceSystemEnum.SCADA, "F-1", 1, false);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 10, 0);
+        coalescer.offer(repeat, 11, 10);
+        coalescer.flushExpired(WINDOW_NANOS);
+        // when
+        coalescer.settle(emitted.get(0), true);
+        coalescer.settle(emitted.get(0), true);
+        // then only once
+        verify(deduplicator).forget(same(repeat));
+        verify(journal).complete(11);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a consolidated event the ingress refuses and release its repeats")
+    void shouldDeadLetterRefusedEvent() {
+        // given
+        coalescer = newCoalescer(64);
+        OutageEvent repeat = event(SourceSystemEnum.SCADA, "F-1", 1, false);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 10, 0);
+        coalescer.offer(repeat, 11, 10);
+        refusing = true;
+        // when
+        coalescer.flushExpired(WINDOW_NANOS);
+        // then
+        assertThat(coalescer.getRefusedCount()).isEqualTo(1);
+        verify(deadLetterQueue).append(any(OutageEvent.class), isA(OutageProcessingException.class));
+        verify(deduplicator).forget(same(repeat));
+        verify(journal).complete(11);
+    }
+
+    @Test
+    @DisplayName("Should flush every open window on stop and pass events through afterwards")
+    void shouldFlushOnStop() {
+        // given
+        coalescer = newCoalescer(64);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 0);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 10);
+        // when
+        coalescer.stop();
+        // then
+        assertThat(emitted).hasSize(1);
+        assertThat(coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 20)).isFalse();
+        assertThat(coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 30)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should close a window without repeats silently and open a new one afterwards")
+    void shouldReopenAfterWindow() {
+        // given
+        coalescer = newCoalescer(64);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 0);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 10);
+        // when the next repeat arrives after the window, before the flusher ran
+        boolean absorbed = coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, WINDOW_NANOS + 10);
+        coalescer.flushExpired(3 * WINDOW_NANOS);
+        // then
+        assertThat(absorbed).isFalse();
+        assertThat(emitted).singleElement().extracting(OutageEvent::getOccurrences).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep feeders and source systems apart and pass events without a feeder through")
+    void shouldKeyBySourceAndFeeder() {
+        // given
+        coalescer = newCoalescer(64);
+        coalescer.offer(event(SourceSystemEnum.SCADA, "F-1", 1, false), 0, 0);
+        // when & then
+        assertThat(coalescer.offer(event(SourceSystemEnum.SCADA, "F-2", 1, false), 0, 1)).isFalse();
+        assertThat(coalescer.offer(event(SourceSystemEnum.DMS, "F-1", 1, false), 0, 2)).isFalse();
+        assertThat(coalescer.offer(event(SourceSystemEnum.SCADA, null, 1, false), 0, 3)).isFalse();
+        assertThat(coalescer.offer(event(SourceSystemEnum.SCADA, null, 1, false), 0, 4)).isFalse();
+        assertThat(coalescer.getAbsorbedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pass events through rather than grow when every slot holds an open window")
+    void shouldStayBounded() {
+        // given one set of 8 slots
+        coalescer = newCoalescer(8);
+        for (int i = 0; i < 8; i++) {
+            coalescer.offer(event(SourceSystemEnum.SCADA, "F-" + i, 1, false), 0, 0);
+        }
+        // when
+        boolean absorbed = coalescer.offer(event(SourceSystemEnum.SCADA, "F-8", 1, false), 0, 1);
+        boolean again = coalescer.offer(event(SourceSystemEnum.SCADA, "F-8", 1, false), 0, 2);
+        // then
+        assertThat(absorbed).isFalse();
+        assertThat(again).isFalse();
+        assertThat(coalescer.getOverflowCount()).isEqualTo(2);
+        assertThat(coalescer.offer(event(SourceSystemEnum.SCADA, "F-0", 1, false), 0, 3)).isTrue();
+    }
+}
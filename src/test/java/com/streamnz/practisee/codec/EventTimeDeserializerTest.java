@@ -0,0 +1,73 @@
+package com.streamnz.practisee.codec;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:43
+ */
+@DisplayName("EventTimeDeserializer Test")
+public class EventTimeDeserializerTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+    /**
+     * The mapping before the fast path, as the reference for results and errors.
+     */
+    static class FormatterOnly {
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "UTC")
+        public Instant eventTime;
+    }
+
+    private static String json(String eventTime) {
+        return "{\"eventTime\":" + eventTime + "}";
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"2025-10-06 10:15:30\"", "\"2024-02-29 23:59:59\"", "\"1969-12-31 23:59:59\"",
+            "\"0001-01-01 00:00:00\"", "\"9999-12-31 23:59:59\"", "\"2025-02-30 10:00:00\"", "\" 2025-10-06 10:15:30 \"",
+            "\"2025-10-06 24:00:00\"", "\"\"", "null"})
+    @DisplayName("Should read the same instant as the formatter path")
+    void shouldMatchFormatter(String eventTime) throws Exception {
+        // when
+        Instant fast = mapper.readValue(json(eventTime), OutageEvent.class).getEventTime();
+        Instant reference = mapper.readValue(json(eventTime), FormatterOnly.class).eventTime;
+        // then
+        assertThat(fast).isEqualTo(reference);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"2025-13-06 10:15:30\"", "\"2025-10-06T10:15:30\"", "\"2025-1O-06 10:15:30\"",
+            "\"yesterday\"", "\"2025-10-06 10:15:60\"", "true", "[1]"})
+    @DisplayName("Should fail malformed input exactly like the formatter path")
+    void shouldFailLikeFormatter(String eventTime) {
+        // when
+        Throwable fast = catchThrowable(() -> mapper.readValue(json(eventTime), OutageEvent.class));
+        Throwable reference = catchThrowable(() -> mapper.readValue(json(eventTime), FormatterOnly.class));
+        // then
+        assertThat(reference).isNotNull();
+        assertThat(fast).isExactlyInstanceOf(reference.getClass());
+        assertThat(fast.getMessage()).startsWith(reference.getMessage().substring(0, reference.getMessage().indexOf('\n')));
+    }
+
+    @Test
+    @DisplayName("Should read integers as epoch millis")
+    void shouldReadEpochMillis() throws Exception {
+        // when
+        OutageEvent event = mapper.readValue(json("1759745730123"), OutageEvent.class);
+        // then
+        assertThat(event.getEventTime()).isEqualTo(Instant.ofEpochMilli(1759745730123L));
+    }
+}
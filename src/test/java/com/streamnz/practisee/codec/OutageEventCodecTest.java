@@ -0,0 +1,90 @@
+package com.streamnz.practisee.codec;
+
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:39
+ */
+@DisplayName("OutageEventCodec Test")
+public class OutageEventCodecTest {
+
+    private static OutageEvent roundTrip(OutageEvent event) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(OutageEventCodec.encodedSize(event));
+        OutageEventCodec.encode(event, buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        return OutageEventCodec.decode(buffer.flip());
+    }
+
+    @Test
+    @DisplayName("Should keep every field of an upstream event")
+    void shouldRoundTripUpstreamEvent() {
+        // given
+        OutageEvent event = new OutageEvent("evt-1", SourceSystemEnum.EMS, Instant.parse("2026-10-17T10:15:30Z"));
+        event.setEventDescription("Feeder trip at Ōtāhuhu 🌩");
+        event.setFeederId("F-42");
+        event.setStormLevel(7);
+        event.setCritical(true);
+        // when
+        OutageEvent decoded = roundTrip(event);
+        // then
+        assertThat(decoded.getEventId()).isEqualTo("evt-1");
+        assertThat(decoded.getSourceSystem()).isEqualTo(SourceSystemEnum.EMS);
+        assertThat(decoded.getEventTime()).isEqualTo(event.getEventTime());
+        assertThat(decoded.getEventDescription()).isEqualTo("Feeder trip at Ōtāhuhu 🌩");
+        assertThat(decoded.getFeederId()).isEqualTo("F-42");
+        assertThat(decoded.getStormLevel()).isEqualTo(7);
+        assertThat(decoded.isCritical()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep numeric ids, sub-millisecond times, out-of-range storm levels and occurrences")
+    void shouldRoundTripEdgeCases() {
+        // given
+        OutageEvent event = new OutageEvent(123456789L, SourceSystemEnum.DMS, Instant.parse("1969-12-31T23:59:59.123456789Z"));
+        event.setStormLevel(1000);
+        event.setOccurrences(42);
+        // when
+        OutageEvent decoded = roundTrip(event);
+        // then
+        assertThat(decoded.getNumericEventId()).isEqualTo(123456789L);
+        assertThat(decoded.getEventTime()).isEqualTo(event.getEventTime());
+        assertThat(decoded.getStormLevel()).isEqualTo(1000);
+        assertThat(decoded.getOccurrences()).isEqualTo(42);
+        assertThat(decoded.getEventDescription()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode a routine event compactly and without a time when missing")
+    void shouldEncodeCompactly() {
+        // given
+        OutageEvent event = new OutageEvent(1L, null, null);
+        // when
+        ByteBuffer encoded = OutageEventCodec.encode(event);
+        // then
+        assertThat(encoded.remaining()).isEqualTo(2 + 8 + 1 + 1 + 4 + 4);
+        OutageEvent decoded = OutageEventCodec.decode(encoded);
+        assertThat(decoded.getSourceSystem()).isNull();
+        assertThat(decoded.getEventTime()).isNull();
+        assertThat(decoded.getOccurrences()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown encoding version")
+    void shouldRejectUnknownVersion() {
+        // given
+        ByteBuffer encoded = OutageEventCodec.encode(new OutageEvent(1L, SourceSystemEnum.SCADA, Instant.now()));
+        encoded.put(0, (byte) 99);
+        // when & then
+        assertThatThrownBy(() -> OutageEventCodec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
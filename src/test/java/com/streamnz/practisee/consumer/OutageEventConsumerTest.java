@@ -0,0 +1,173 @@
+package com.streamnz.practisee.consumer;
+
+import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageValidationException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.coalesce.OutageEventCoalescer;
+import com.streamnz.practisee.service.dedup.OutageEventDeduplicator;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.retry.RetryScheduler;
+import com.streamnz.practisee.service.id.SnowflakeIdGenerator;
+import com.streamnz.practisee.service.telemetry.OutageEventTracer;
+import com.streamnz.practisee.service.wal.OutageEventJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 03:29
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventConsumer Test")
+public class OutageEventConsumerTest {
+
+    @Mock
+    private HandlerRegister handlerRegister;
+
+    @Mock
+    private OutageEventDeduplicator deduplicator;
+
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+
+    @Mock
+    private DecoratorConfig retryConfig;
+
+    @Mock
+    private RetryScheduler retryScheduler;
+
+    @Mock
+    private OutageEventTracer tracer;
+
+    @Mock
+    private ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+
+    @Mock
+    private OutageDeadLetterQueue deadLetterQueue;
+
+    @Mock
+    private ObjectProvider<OutageEventJournal> journalProvider;
+
+    @Mock
+    private OutageEventJournal journal;
+
+    @Mock
+    private ObjectProvider<OutageEventCoalescer> coalescerProvider;
+
+    @Mock
+    private OutageEventCoalescer coalescer;
+
+    @Mock
+    private OutageHandler handler;
+
+    private OutageEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        when(deadLetterQueueProvider.getIfAvailable()).thenReturn(deadLetterQueue);
+        when(journalProvider.getIfAvailable()).thenReturn(journal);
+        consumer = new OutageEventConsumer(handlerRegister, deduplicator, idGenerator, retryConfig, retryScheduler, tracer,
+                deadLetterQueueProvider, journalProvider, coalescerProvider);
+        consumer.init();
+    }
+
+    @Test
+    @DisplayName("Should dead-letter and complete a journaled event whose handler cannot be looked up")
+    void shouldCompleteEventWithoutHandler() {
+        // given
+        OutageEvent event = new OutageEvent("1", null, Instant.now());
+        OutageValidationException missingSource = new OutageValidationException("Missing sourceSystem", null);
+        when(journal.append(event)).thenReturn(7L);
+        when(handlerRegister.getHandler((SourceSystemEnum) null)).thenThrow(missingSource);
+        // when & then
+        assertThatThrownBy(() -> consumer.consume(event)).isSameAs(missingSource);
+        verify(journal).complete(7L);
+        verify(deadLetterQueue).append(same(event), same(missingSource));
+        verify(deduplicator).forget(event);
+        verify(tracer).trace(same(event), anyLong(), same(missingSource));
+    }
+
+    @Test
+    @DisplayName("Should complete the journal offset only once the write has committed")
+    void shouldCompleteAfterCommit() throws Exception {
+        // given
+        OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+        CompletableFuture<Void> persisted = new CompletableFuture<>();
+        when(journal.append(event)).thenReturn(7L);
+        when(handlerRegister.getHandler(SourceSystemEnum.SCADA)).thenReturn(handler);
+        when(handler.handle(event)).thenReturn(persisted);
+        // when
+        consumer.consume(event);
+        // then
+        verify(journal, never()).complete(anyLong());
+        persisted.complete(null);
+        verify(journal).complete(7L);
+        verify(tracer).trace(same(event), anyLong(), isNull());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an event whose write fails after the handler returned")
+    void shouldDeadLetterFailedWrite() throws Exception {
+        // given
+        OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+        IllegalStateException dbDown = new IllegalStateException("db down");
+        when(journal.append(event)).thenReturn(7L);
+        when(handlerRegister.getHandler(SourceSystemEnum.SCADA)).thenReturn(handler);
+        when(handler.handle(event)).thenReturn(CompletableFuture.failedFuture(dbDown));
+        // when
+        consumer.consume(event);
+        // then
+        verify(deadLetterQueue).append(same(event), same(dbDown));
+        verify(deduplicator).forget(event);
+        verify(journal).complete(7L);
+        verify(tracer).trace(same(event), anyLong(), same(dbDown));
+    }
+
+    @Test
+    @DisplayName("Should journal an event before the coalescer absorbs it and settle consolidated events on completion")
+    void shouldJournalBeforeCoalescing() throws Exception {
+        // given
+        when(coalescerProvider.getIfAvailable()).thenReturn(coalescer);
+        consumer.init();
+        OutageEvent repeat = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+        OutageEvent consolidated = new OutageEvent("2", SourceSystemEnum.SCADA, Instant.now());
+        when(journal.append(repeat)).thenReturn(7L);
+        when(journal.append(consolidated)).thenReturn(8L);
+        when(coalescer.offer(repeat, 7L)).thenReturn(true);
+        when(handlerRegister.getHandler(SourceSystemEnum.SCADA)).thenReturn(handler);
+        when(handler.handle(consolidated)).thenReturn(CompletableFuture.completedFuture(null));
+        // when
+        consumer.consume(repeat);
+        consumer.consume(consolidated);
+        // then
+        InOrder order = inOrder(journal, coalescer);
+        order.verify(journal).append(repeat);
+        order.verify(coalescer).offer(repeat, 7L);
+        verify(handler, never()).handle(repeat);
+        verify(journal, never()).complete(7L);
+        verify(journal).complete(8L);
+        verify(coalescer).settle(consolidated, false);
+    }
+}
@@ -0,0 +1,93 @@
+package com.streamnz.practisee.controller;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventIngress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:40
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventIngestController Test")
+public class OutageEventIngestControllerTest {
+
+    private static final String EVENT = "{\"eventId\":\"%s\",\"sourceSystem\":\"SCADA\",\"eventTime\":\"2025-10-06 10:15:30\",\"stormLevel\":7}";
+
+    @Mock
+    private OutageEventIngress ingress;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new OutageEventIngestController(ingress, JsonMapper.builder().findAndAddModules().build())).build();
+    }
+
+    @Test
+    @DisplayName("Should submit every event of a JSON array")
+    void shouldIngestArray() throws Exception {
+        // given
+        when(ingress.submit(any())).thenReturn(true);
+        String body = "[" + EVENT.formatted("evt-1") + "," + EVENT.formatted("evt-2") + "]";
+        // when & then
+        mockMvc.perform(post("/api/outage-events/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2));
+        ArgumentCaptor<OutageEvent> captor = ArgumentCaptor.forClass(OutageEvent.class);
+        verify(ingress, times(2)).submit(captor.capture());
+        OutageEvent first = captor.getAllValues().get(0);
+        assertThat(first.getEventId()).isEqualTo("evt-1");
+        assertThat(first.getSourceSystem()).isEqualTo(SourceSystemEnum.SCADA);
+        assertThat(first.getEventTime()).isEqualTo(Instant.parse("2025-10-06T10:15:30Z"));
+    }
+
+    @Test
+    @DisplayName("Should submit NDJSON lines and report backpressure rejections")
+    void shouldIngestNdjson() throws Exception {
+        // given
+        when(ingress.submit(any())).thenReturn(true, false, true);
+        String body = EVENT.formatted("evt-1") + "\n" + EVENT.formatted("evt-2") + "\n" + EVENT.formatted("evt-3") + "\n";
+        // when & then
+        mockMvc.perform(post("/api/outage-events/batch").contentType(OutageEventIngestController.NDJSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
+    @Test
+    @DisplayName("Should stop at malformed input and keep the events read before it")
+    void shouldStopAtMalformedInput() throws Exception {
+        // given
+        when(ingress.submit(any())).thenReturn(true);
+        String body = "[" + EVENT.formatted("evt-1") + ",{\"eventId\":\"evt-2\",\"eventTime\":\"not a time\"}]";
+        // when & then
+        mockMvc.perform(post("/api/outage-events/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.error").isNotEmpty());
+    }
+}
@@ -0,0 +1,137 @@
+package com.streamnz.practisee.dao;
+
+import com.streamnz.practisee.config.PersistenceConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:11
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventBatchWriter Test")
+public class OutageEventBatchWriterTest {
+
+    @Mock
+    private PersistenceConfig config;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private OutageEventBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/outage_event.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        when(config.getBatchSize()).thenReturn(5);
+        when(config.getMaxDelayMillis()).thenReturn(20L);
+        when(config.getQueueCapacity()).thenReturn(100);
+        writer = new OutageEventBatchWriter(jdbcTemplate, new DataSourceTransactionManager(database), config);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+        database.shutdown();
+    }
+
+    private static OutageEvent event(String eventId) {
+        OutageEvent event = new OutageEvent(eventId, SourceSystemEnum.SCADA, Instant.parse("2025-10-06T10:15:30Z"));
+        event.setStormLevel(7);
+        event.setCritical(true);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should persist every event and complete its future after commit")
+    void shouldPersistInBatches() {
+        // given
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        // when
+        for (int i = 0; i < 12; i++) {
+            futures.add(writer.submit(event(String.valueOf(i))));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).orTimeout(5, TimeUnit.SECONDS).join();
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outage_event", Integer.class)).isEqualTo(12);
+        assertThat(jdbcTemplate.queryForObject("SELECT storm_level FROM outage_event WHERE event_id = '3'", Integer.class)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the delay has elapsed")
+    void shouldFlushPartialBatchAfterDelay() {
+        // when
+        CompletableFuture<Void> future = writer.submit(event("lonely"));
+        // then
+        future.orTimeout(1, TimeUnit.SECONDS).join();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outage_event", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should treat an eventId that is already stored as written")
+    void shouldIgnoreDuplicates() {
+        // given
+        writer.submit(event("dup")).orTimeout(1, TimeUnit.SECONDS).join();
+        // when
+        CompletableFuture<Void> duplicate = writer.submit(event("dup"));
+        CompletableFuture<Void> fresh = writer.submit(event("fresh"));
+        // then
+        assertThat(duplicate).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(fresh).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outage_event", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail only the events of a batch that cannot be written")
+    void shouldFailOnlyBadRows() {
+        // given
+        OutageEvent broken = event("broken");
+        broken.setSourceSystem(null);
+        // when
+        CompletableFuture<Void> good = writer.submit(event("good"));
+        CompletableFuture<Void> bad = writer.submit(broken);
+        // then
+        assertThat(bad).failsWithin(1, TimeUnit.SECONDS);
+        assertThat(good).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outage_event", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject submits once the flusher thread was interrupted")
+    void shouldRejectAfterInterrupt() throws InterruptedException {
+        // given
+        Thread flusher = (Thread) ReflectionTestUtils.getField(writer, "flusher");
+        // when
+        flusher.interrupt();
+        flusher.join(1000);
+        // then
+        assertThat(writer.submit(event("late"))).failsWithin(1, TimeUnit.SECONDS);
+    }
+}
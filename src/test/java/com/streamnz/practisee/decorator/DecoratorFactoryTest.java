@@ -0,0 +1,112 @@
+package com.streamnz.practisee.decorator;
+
+import com.streamnz.practisee.config.CircuitBreakerConfig;
+import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.enums.CrossCuttingModeEnum;
+import com.streamnz.practisee.enums.HandlerDecoratorEnum;
+import com.streamnz.practisee.enums.RetryModeEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.TelemetryService;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.decorator.DecoratorFactory;
+import com.streamnz.practisee.service.impl.TelemetryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 03:00
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DecoratorFactory Test")
+public class DecoratorFactoryTest {
+
+    @Mock
+    private DecoratorConfig config;
+
+    @Mock
+    private CircuitBreakerConfig circuitBreakerConfig;
+
+    private final TelemetryService telemetryService = new TelemetryServiceImpl();
+
+    private DecoratorFactory factory;
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private final OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+
+    static class FailingHandler implements OutageHandler {
+        private final AtomicInteger attempts;
+
+        FailingHandler(AtomicInteger attempts) {
+            this.attempts = attempts;
+        }
+
+        @Override
+        public CompletableFuture<Void> handle(OutageEvent event) {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("db down");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        factory = new DecoratorFactory(config, telemetryService, circuitBreakerConfig);
+    }
+
+    private void givenMode(CrossCuttingModeEnum mode, HandlerDecoratorEnum... chain) {
+        when(config.getCrossCuttingMode()).thenReturn(mode);
+        when(config.getChain()).thenReturn(List.of(chain));
+    }
+
+    @Test
+    @DisplayName("Should apply the chain outermost first")
+    void shouldApplyChainInOrder() {
+        // given
+        givenMode(CrossCuttingModeEnum.DECORATOR, HandlerDecoratorEnum.RETRY, HandlerDecoratorEnum.TELEMETRY);
+        when(config.isRetryEnabled()).thenReturn(true);
+        when(config.getRetryMode()).thenReturn(RetryModeEnum.INLINE);
+        when(config.getMaxRetries()).thenReturn(3);
+        OutageHandler handler = factory.createDecorator(new FailingHandler(attempts));
+        // when
+        assertThatThrownBy(() -> handler.handle(event)).isInstanceOf(RuntimeException.class);
+        // then telemetry sits inside retry and times every attempt
+        assertThat(attempts).hasValue(3);
+        assertThat(telemetryService.getSnapshot("FailingHandler", TelemetryOutcomeEnum.FAILURE).count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should leave retry and telemetry to the aspects in AOP mode")
+    void shouldNotDecorateInAopMode() {
+        // given
+        givenMode(CrossCuttingModeEnum.AOP, HandlerDecoratorEnum.TELEMETRY, HandlerDecoratorEnum.RETRY);
+        FailingHandler handler = new FailingHandler(attempts);
+        // when & then
+        assertThat(factory.createDecorator(handler)).isSameAs(handler);
+    }
+
+    @Test
+    @DisplayName("Should refuse a chain that lists a decorator twice")
+    void shouldRejectDuplicates() {
+        // given
+        when(config.getChain()).thenReturn(List.of(HandlerDecoratorEnum.RETRY, HandlerDecoratorEnum.RETRY));
+        // when & then
+        assertThatThrownBy(() -> factory.createDecorator(new FailingHandler(attempts)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
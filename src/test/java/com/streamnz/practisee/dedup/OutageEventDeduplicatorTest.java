@@ -0,0 +1,102 @@
+package com.streamnz.practisee.dedup;
+
+import com.streamnz.practisee.config.DedupConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.dedup.OutageEventDeduplicator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:13
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventDeduplicator Test")
+public class OutageEventDeduplicatorTest {
+
+    @Mock
+    private DedupConfig config;
+
+    private OutageEventDeduplicator deduplicator(int capacity, long ttlMillis) {
+        when(config.isEnabled()).thenReturn(true);
+        when(config.getCapacity()).thenReturn(capacity);
+        when(config.getTtlMillis()).thenReturn(ttlMillis);
+        OutageEventDeduplicator deduplicator = new OutageEventDeduplicator(config);
+        deduplicator.init();
+        return deduplicator;
+    }
+
+    private static OutageEvent event(String eventId) {
+        return new OutageEvent(eventId, SourceSystemEnum.SCADA, Instant.now());
+    }
+
+    @Test
+    @DisplayName("Should report a redelivered eventId as duplicate")
+    void shouldDetectDuplicate() {
+        // given
+        OutageEventDeduplicator deduplicator = deduplicator(1024, 60_000);
+        // when & then
+        assertThat(deduplicator.isDuplicate(event("1"))).isFalse();
+        assertThat(deduplicator.isDuplicate(event("1"))).isTrue();
+        assertThat(deduplicator.isDuplicate(event("2"))).isFalse();
+        assertThat(deduplicator.getHitCount()).isEqualTo(1);
+        assertThat(deduplicator.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should let an eventId through again once its TTL has passed")
+    void shouldExpireAfterTtl() throws InterruptedException {
+        // given
+        OutageEventDeduplicator deduplicator = deduplicator(1024, 20);
+        deduplicator.isDuplicate(event("1"));
+        // when
+        Thread.sleep(40);
+        // then
+        assertThat(deduplicator.isDuplicate(event("1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should let a forgotten eventId through again")
+    void shouldForget() {
+        // given
+        OutageEventDeduplicator deduplicator = deduplicator(1024, 60_000);
+        deduplicator.isDuplicate(event("1"));
+        // when
+        deduplicator.forget(event("1"));
+        // then
+        assertThat(deduplicator.isDuplicate(event("1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should treat a snowflake id and its rendered string as the same eventId")
+    void shouldMatchNumericAndStringIds() {
+        // given
+        OutageEventDeduplicator deduplicator = deduplicator(1024, 60_000);
+        deduplicator.isDuplicate(new OutageEvent(123456789012345L, SourceSystemEnum.SCADA, Instant.now()));
+        // when & then
+        assertThat(deduplicator.isDuplicate(event("123456789012345"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stay bounded by evicting the oldest entries")
+    void shouldEvictWhenFull() {
+        // given
+        OutageEventDeduplicator deduplicator = deduplicator(16, 60_000);
+        // when
+        for (int i = 0; i < 1000; i++) {
+            deduplicator.isDuplicate(event(String.valueOf(i)));
+        }
+        // then
+        assertThat(deduplicator.getEvictionCount()).isGreaterThanOrEqualTo(1000 - 16);
+        assertThat(deduplicator.isDuplicate(event("999"))).isTrue();
+    }
+}
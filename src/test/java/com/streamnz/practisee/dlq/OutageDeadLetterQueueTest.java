@@ -0,0 +1,117 @@
+package com.streamnz.practisee.dlq;
+
+import com.streamnz.practisee.config.DeadLetterConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.DeadLetter;
+import com.streamnz.practisee.model.dto.DeadLetterReplayResult;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.handler.HandlerRegister;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageDeadLetterQueue Test")
+public class OutageDeadLetterQueueTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private DeadLetterConfig config;
+
+    @Mock
+    private HandlerRegister handlerRegister;
+
+    @Mock
+    private OutageHandler handler;
+
+    private OutageDeadLetterQueue deadLetterQueue;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(config.getDirectory()).thenReturn(directory.toString());
+        when(config.getSegmentBytes()).thenReturn(1 << 16);
+        when(config.getForceEveryAppends()).thenReturn(16);
+        when(config.getForceIntervalMillis()).thenReturn(0L);
+        deadLetterQueue = new OutageDeadLetterQueue(config, handlerRegister);
+        deadLetterQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        deadLetterQueue.stop();
+    }
+
+    @Test
+    @DisplayName("Should keep every field of a dead-lettered event")
+    void shouldRoundTripEvent() {
+        // given
+        OutageEvent event = new OutageEvent("evt-1", SourceSystemEnum.EMS, Instant.parse("2026-10-17T10:15:30.123Z"));
+        event.setEventDescription("Feeder trip");
+        event.setFeederId("F-42");
+        event.setStormLevel(7);
+        event.setCritical(true);
+        OutageEvent numeric = new OutageEvent(123456789L, SourceSystemEnum.DMS, null);
+        // when
+        deadLetterQueue.append(event, new IllegalStateException("db down"));
+        deadLetterQueue.append(numeric, new IllegalStateException("db down"));
+        List<DeadLetter> entries = deadLetterQueue.peek(0, 10);
+        // then
+        assertThat(entries).hasSize(2);
+        OutageEvent restored = entries.get(0).event();
+        assertThat(entries.get(0).reason()).isEqualTo("IllegalStateException: db down");
+        assertThat(restored.getEventId()).isEqualTo("evt-1");
+        assertThat(restored.getSourceSystem()).isEqualTo(SourceSystemEnum.EMS);
+        assertThat(restored.getEventTime()).isEqualTo(event.getEventTime());
+        assertThat(restored.getEventDescription()).isEqualTo("Feeder trip");
+        assertThat(restored.getFeederId()).isEqualTo("F-42");
+        assertThat(restored.getStormLevel()).isEqualTo(7);
+        assertThat(restored.isCritical()).isTrue();
+        assertThat(entries.get(1).event().getNumericEventId()).isEqualTo(123456789L);
+        assertThat(entries.get(1).event().getEventTime()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should replay through the handler and dead-letter entries that fail again")
+    void shouldReplay() throws Exception {
+        // given
+        when(handlerRegister.getHandler(SourceSystemEnum.SCADA)).thenReturn(handler);
+        doThrow(new IllegalStateException("still down")).doReturn(CompletableFuture.completedFuture(null)).when(handler).handle(any());
+        deadLetterQueue.append(new OutageEvent("evt-1", SourceSystemEnum.SCADA, Instant.now()), new IllegalStateException("db down"));
+        deadLetterQueue.append(new OutageEvent("evt-2", SourceSystemEnum.SCADA, Instant.now()), new IllegalStateException("db down"));
+        // when
+        DeadLetterReplayResult result = deadLetterQueue.replay(0, 10, 1000);
+        // then
+        assertThat(result.replayed()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        verify(handler, times(2)).handle(any());
+        List<DeadLetter> requeued = deadLetterQueue.peek(result.nextOffset(), 10);
+        assertThat(requeued).extracting(entry -> entry.event().getEventId()).containsExactly("evt-1");
+        assertThat(requeued.get(0).reason()).isEqualTo("IllegalStateException: still down");
+    }
+}
@@ -43,11 +43,11 @@ public class DMSHandlerTest {
 
     @Test
     @DisplayName("Should handle event successfully")
-    void shouldHandleEventSuccessfully() {
+    void shouldHandleEventSuccessfully() throws Exception {
         // when
         handler.handle(event);
         // then
-        // 验证 outageService 的 saveEvent 方法被调用，确保事件被处理
-        verify(outageService).saveEvent(event);
+        // 验证 outageService 的 saveEventAsync 方法被调用，确保事件被处理
+        verify(outageService).saveEventAsync(event);
     }
 }
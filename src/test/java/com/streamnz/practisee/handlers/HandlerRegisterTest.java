@@ -1,10 +1,13 @@
 package com.streamnz.practisee.handlers;
 
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
 import com.streamnz.practisee.service.OutageService;
 import com.streamnz.practisee.service.handler.HandlerRegister;
 import com.streamnz.practisee.service.handler.OutageHandler;
 import com.streamnz.practisee.service.handler.SCADAHandler;
 import com.streamnz.practisee.service.handler.aop.OutageHandlerType;
+import com.streamnz.practisee.service.handler.decorator.DecoratorFactory;
 import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.context.ApplicationContext;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,11 +37,29 @@ public class HandlerRegisterTest {
     @Mock private ApplicationContext context;
     @Mock private OutageService outageService;
     @Mock private OutageEventListenerRegister listenerRegister;
+    @Mock private DecoratorFactory decoratorFactory;
     private HandlerRegister handlerRegister;
 
+    @OutageHandlerType("EMS")
+    static class StubEMSHandler implements OutageHandler {
+        @Override
+        public CompletableFuture<Void> handle(OutageEvent event) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @OutageHandlerType("DMS")
+    static class StubDMSHandler implements OutageHandler {
+        @Override
+        public CompletableFuture<Void> handle(OutageEvent event) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
     @BeforeEach
     void setup() {
-        handlerRegister = new HandlerRegister();
+        lenient().when(decoratorFactory.createDecorator(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        handlerRegister = new HandlerRegister(decoratorFactory);
         handlerRegister.setApplicationContext(context);
     }
 
@@ -43,20 +68,36 @@ public class HandlerRegisterTest {
     void registerAndRetrieveHandler() {
         // given
         SCADAHandler handler = new SCADAHandler(outageService,listenerRegister);
-        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(Map.of("SCADA", handler));
+        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(
+                Map.of("SCADA", handler, "EMS", new StubEMSHandler(), "DMS", new StubDMSHandler()));
         // when
         handlerRegister.init();
         // then
         OutageHandler registerHandler = handlerRegister.getHandler("SCADA");
         assertThat(registerHandler).isSameAs(handler);
+        assertThat(handlerRegister.getHandler(SourceSystemEnum.SCADA)).isSameAs(handler);
+        assertThat(handlerRegister.getHandler(SourceSystemEnum.DMS)).isInstanceOf(StubDMSHandler.class);
 
     }
 
+    @Test
+    @DisplayName("Should fail at startup when a source system has no handler")
+    void failFastOnMissingHandler() {
+        // given
+        SCADAHandler handler = new SCADAHandler(outageService,listenerRegister);
+        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(Map.of("SCADA", handler));
+        // when & then
+        assertThatThrownBy(() -> handlerRegister.init())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No handler registered for source systems: [EMS, DMS]");
+    }
+
     @Test
     @DisplayName("Should throw exception when no handler found")
     void testGetHandler_NotFound() {
         // given
-        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(Map.of());
+        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(
+                Map.of("SCADA", new SCADAHandler(outageService,listenerRegister), "EMS", new StubEMSHandler(), "DMS", new StubDMSHandler()));
         handlerRegister.init();
         // when & then
         try {
@@ -66,6 +107,36 @@ public class HandlerRegisterTest {
         }
     }
 
+    @Test
+    @DisplayName("Should swap handlers at runtime and refuse types no event is dispatched to")
+    void registerAtRuntime() {
+        // given
+        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(
+                Map.of("SCADA", new SCADAHandler(outageService,listenerRegister), "EMS", new StubEMSHandler(), "DMS", new StubDMSHandler()));
+        handlerRegister.init();
+        StubEMSHandler replacement = new StubEMSHandler();
+        StubDMSHandler feed = new StubDMSHandler();
+        // when
+        OutageHandler previous = handlerRegister.register("EMS", replacement);
+        // then
+        assertThat(previous).isInstanceOf(StubEMSHandler.class).isNotSameAs(replacement);
+        assertThat(handlerRegister.getHandler(SourceSystemEnum.EMS)).isSameAs(replacement);
+        assertThatThrownBy(() -> handlerRegister.register("AMI", feed)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handlerRegister.getHandler("AMI")).isInstanceOf(IllegalArgumentException.class);
+    }
 
-
+    @Test
+    @DisplayName("Should find the handler type behind a CGLIB proxy")
+    void registerProxiedHandler() {
+        // given
+        ProxyFactory proxyFactory = new ProxyFactory(new SCADAHandler(outageService,listenerRegister));
+        proxyFactory.setProxyTargetClass(true);
+        OutageHandler proxy = (OutageHandler) proxyFactory.getProxy();
+        when(context.getBeansWithAnnotation(OutageHandlerType.class)).thenReturn(
+                Map.of("SCADA", proxy, "EMS", new StubEMSHandler(), "DMS", new StubDMSHandler()));
+        // when
+        handlerRegister.init();
+        // then
+        assertThat(handlerRegister.getHandler(SourceSystemEnum.SCADA)).isSameAs(proxy);
+    }
 }
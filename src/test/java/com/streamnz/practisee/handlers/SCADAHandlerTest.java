@@ -43,11 +43,11 @@ public class SCADAHandlerTest {
 
     @Test
     @DisplayName("Should handle event successfully")
-    void shouldHandleEventSuccessfully() {
+    void shouldHandleEventSuccessfully() throws Exception {
         // when
         handler.handle(event);
         // then
-        verify(outageService).saveEvent(event);
+        verify(outageService).saveEventAsync(event);
     }
 
 
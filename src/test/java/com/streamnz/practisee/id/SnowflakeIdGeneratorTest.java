@@ -0,0 +1,85 @@
+package com.streamnz.practisee.id;
+
+import com.streamnz.practisee.service.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:14
+ */
+@DisplayName("SnowflakeIdGenerator Test")
+public class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should encode node id and timestamp into the id")
+    void shouldEncodeNodeAndTimestamp() {
+        // given
+        long now = 1760000000000L;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, 5000, () -> now);
+        // when
+        long id = generator.nextId();
+        // then
+        assertThat(id).isPositive();
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(42);
+        assertThat(SnowflakeIdGenerator.timestampMillisOf(id)).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("Should issue unique ids across threads")
+    void shouldBeUniqueAcrossThreads() throws InterruptedException {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        // when
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        // then
+        assertThat(ids).hasSize(160_000);
+    }
+
+    @Test
+    @DisplayName("Should stay increasing when the clock moves backwards within tolerance")
+    void shouldTolerateSmallClockRollback() {
+        // given
+        AtomicLong clock = new AtomicLong(1760000000000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, clock::get);
+        long before = generator.nextId();
+        // when
+        clock.addAndGet(-1000);
+        long after = generator.nextId();
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Should refuse ids when the clock moves backwards beyond tolerance")
+    void shouldRejectLargeClockRollback() {
+        // given
+        AtomicLong clock = new AtomicLong(1760000000000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000, clock::get);
+        generator.nextId();
+        // when
+        clock.addAndGet(-60_000);
+        // then
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.streamnz.practisee.ingress;
+
+import com.streamnz.practisee.config.PartitionConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.ingress.PartitionedOutageEventIngress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:09
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionedOutageEventIngress Test")
+public class PartitionedOutageEventIngressTest {
+
+    @Mock
+    private OutageEventConsumer consumer;
+
+    @Mock
+    private PartitionConfig config;
+
+    private PartitionedOutageEventIngress ingress;
+
+    @BeforeEach
+    void setUp() {
+        when(config.getLanesPerSource()).thenReturn(4);
+        when(config.getLaneCapacity()).thenReturn(1024);
+        ingress = new PartitionedOutageEventIngress(consumer, config);
+        ingress.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ingress.stop();
+    }
+
+    private static OutageEvent feederEvent(String eventId, SourceSystemEnum source, String feederId) {
+        OutageEvent event = new OutageEvent(eventId, source, Instant.now());
+        event.setFeederId(feederId);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should process events of the same feeder in submission order")
+    void shouldKeepPerKeyOrder() throws InterruptedException {
+        // given
+        List<String> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(200);
+        doAnswer(invocation -> {
+            OutageEvent event = invocation.getArgument(0);
+            if ("F-1".equals(event.getFeederId())) {
+                processed.add(event.getEventId());
+            }
+            done.countDown();
+            return null;
+        }).when(consumer).consume(any());
+        // when
+        for (int i = 0; i < 100; i++) {
+            ingress.submit(feederEvent(String.valueOf(i), SourceSystemEnum.SCADA, "F-1"));
+            ingress.submit(feederEvent("other-" + i, SourceSystemEnum.SCADA, "F-" + (i + 2)));
+        }
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(processed.get(i)).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep processing DMS events while every SCADA lane is stalled")
+    void shouldIsolateSourceSystems() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        OutageEvent dmsEvent = feederEvent("dms-1", SourceSystemEnum.DMS, "F-1");
+        doAnswer(invocation -> {
+            OutageEvent event = invocation.getArgument(0);
+            if (event.getSourceSystem() == SourceSystemEnum.SCADA) {
+                release.await();
+            }
+            return null;
+        }).when(consumer).consume(any());
+        try {
+            for (int i = 0; i < 50; i++) {
+                ingress.submit(feederEvent("scada-" + i, SourceSystemEnum.SCADA, "F-" + i));
+            }
+            // when
+            ingress.submit(dmsEvent);
+            // then
+            verify(consumer, timeout(1000)).consume(dmsEvent);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread events without a routing key over every lane of their source")
+    void shouldSpreadUnkeyedEvents() throws InterruptedException {
+        // given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(8);
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+            return null;
+        }).when(consumer).consume(any());
+        // when
+        for (int i = 0; i < 8; i++) {
+            ingress.submit(new OutageEvent(null, SourceSystemEnum.SCADA, Instant.now()));
+        }
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).hasSize(4);
+    }
+}
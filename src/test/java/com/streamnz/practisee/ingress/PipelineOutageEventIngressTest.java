@@ -0,0 +1,117 @@
+package com.streamnz.practisee.ingress;
+
+import com.streamnz.practisee.config.PipelineConfig;
+import com.streamnz.practisee.enums.BackpressurePolicyEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.ingress.PipelineOutageEventIngress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:08
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PipelineOutageEventIngress Test")
+public class PipelineOutageEventIngressTest {
+
+    @Mock
+    private OutageEventConsumer consumer;
+
+    @Mock
+    private PipelineConfig config;
+
+    private PipelineOutageEventIngress ingress;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (ingress != null) {
+            ingress.stop();
+        }
+    }
+
+    private void startWith(int capacity, BackpressurePolicyEnum policy) {
+        when(config.getCapacity()).thenReturn(capacity);
+        when(config.getWorkers()).thenReturn(1);
+        when(config.getBackpressure()).thenReturn(policy);
+        ingress = new PipelineOutageEventIngress(consumer, config);
+        ingress.start();
+    }
+
+    private void blockWorker(CountDownLatch started) {
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(consumer).consume(any());
+    }
+
+    @Test
+    @DisplayName("Should hand submitted events to the consumer on a worker thread")
+    void shouldDrainToConsumer() {
+        // given
+        startWith(16, BackpressurePolicyEnum.BLOCK);
+        OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+        // when
+        boolean accepted = ingress.submit(event);
+        // then
+        assertThat(accepted).isTrue();
+        verify(consumer, timeout(1000)).consume(event);
+    }
+
+    @Test
+    @DisplayName("Should reject and count events when the buffer is full")
+    void shouldRejectWhenFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        blockWorker(started);
+        startWith(1, BackpressurePolicyEnum.REJECT);
+        ingress.submit(new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now()));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        ingress.submit(new OutageEvent("2", SourceSystemEnum.SCADA, Instant.now()));
+        // when
+        boolean accepted = ingress.submit(new OutageEvent("3", SourceSystemEnum.SCADA, Instant.now()));
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(ingress.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest buffered event when the buffer is full")
+    void shouldDropOldestWhenFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        blockWorker(started);
+        startWith(1, BackpressurePolicyEnum.DROP_OLDEST);
+        ingress.submit(new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now()));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        OutageEvent oldest = new OutageEvent("2", SourceSystemEnum.SCADA, Instant.now());
+        OutageEvent newest = new OutageEvent("3", SourceSystemEnum.SCADA, Instant.now());
+        ingress.submit(oldest);
+        // when
+        boolean accepted = ingress.submit(newest);
+        release.countDown();
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(ingress.getDroppedCount()).isEqualTo(1);
+        verify(consumer, timeout(1000)).consume(newest);
+        verify(consumer, never()).consume(oldest);
+    }
+}
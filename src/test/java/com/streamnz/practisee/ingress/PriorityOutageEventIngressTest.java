@@ -0,0 +1,139 @@
+package com.streamnz.practisee.ingress;
+
+import com.streamnz.practisee.config.PriorityConfig;
+import com.streamnz.practisee.enums.OutagePriorityEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.ingress.PriorityOutageEventIngress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriorityOutageEventIngress Test")
+public class PriorityOutageEventIngressTest {
+
+    @Mock
+    private OutageEventConsumer consumer;
+
+    @Mock
+    private PriorityConfig config;
+
+    private PriorityOutageEventIngress ingress;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        ingress.stop();
+    }
+
+    /**
+     * Start a single worker that is held on a "blocker" event until {@link #release} opens.
+     */
+    private CountDownLatch startBlocked(int maxConsecutive, int expected) throws InterruptedException {
+        when(config.getQueueCapacity()).thenReturn(100);
+        when(config.getWorkers()).thenReturn(1);
+        when(config.getMaxConsecutive()).thenReturn(maxConsecutive);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(expected);
+        doAnswer(invocation -> {
+            OutageEvent event = invocation.getArgument(0);
+            if ("blocker".equals(event.getEventId())) {
+                started.countDown();
+                release.await();
+            } else {
+                processed.add(event.getEventId());
+                done.countDown();
+            }
+            return null;
+        }).when(consumer).consume(any());
+        ingress = new PriorityOutageEventIngress(consumer, config);
+        ingress.start();
+        ingress.submit(event("blocker", false, 0));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        return done;
+    }
+
+    private static OutageEvent event(String eventId, boolean critical, int stormLevel) {
+        OutageEvent event = new OutageEvent(eventId, SourceSystemEnum.SCADA, Instant.now());
+        event.setCritical(critical);
+        event.setStormLevel(stormLevel);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should process critical and high-storm events ahead of a routine backlog")
+    void shouldJumpTheQueue() throws InterruptedException {
+        // given
+        CountDownLatch done = startBlocked(32, 7);
+        for (int i = 0; i < 5; i++) {
+            ingress.submit(event("routine-" + i, false, 1));
+        }
+        ingress.submit(event("storm", false, 9));
+        ingress.submit(event("critical", true, 0));
+        // when
+        release.countDown();
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed.subList(0, 2)).containsExactly("critical", "storm");
+        assertThat(processed.subList(2, 7)).containsExactly("routine-0", "routine-1", "routine-2", "routine-3", "routine-4");
+    }
+
+    @Test
+    @DisplayName("Should serve a routine event after maxConsecutive higher-priority events")
+    void shouldBoundStarvation() throws InterruptedException {
+        // given
+        CountDownLatch done = startBlocked(2, 11);
+        ingress.submit(event("routine", false, 0));
+        for (int i = 0; i < 10; i++) {
+            ingress.submit(event("critical-" + i, true, 0));
+        }
+        // when
+        release.countDown();
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed.indexOf("routine")).isEqualTo(2);
+        assertThat(ingress.getQueuedCount(OutagePriorityEnum.CRITICAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep serving critical before high after maxConsecutive when no routine event is queued")
+    void shouldNotInvertPriority() throws InterruptedException {
+        // given
+        CountDownLatch done = startBlocked(2, 8);
+        for (int i = 0; i < 3; i++) {
+            ingress.submit(event("high-" + i, false, 9));
+        }
+        for (int i = 0; i < 5; i++) {
+            ingress.submit(event("critical-" + i, true, 0));
+        }
+        // when
+        release.countDown();
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactly("critical-0", "critical-1", "critical-2", "critical-3", "critical-4",
+                "high-0", "high-1", "high-2");
+    }
+}
@@ -0,0 +1,82 @@
+package com.streamnz.practisee.ingress;
+
+import com.streamnz.practisee.config.VirtualThreadConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageEventConsumer;
+import com.streamnz.practisee.service.ingress.VirtualThreadOutageEventIngress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:10
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VirtualThreadOutageEventIngress Test")
+public class VirtualThreadOutageEventIngressTest {
+
+    @Mock
+    private OutageEventConsumer consumer;
+
+    @Mock
+    private VirtualThreadConfig config;
+
+    private VirtualThreadOutageEventIngress ingress;
+
+    @BeforeEach
+    void setUp() {
+        when(config.getMaxConcurrency()).thenReturn(4);
+        when(config.getMaxInFlight()).thenReturn(1000);
+        ingress = new VirtualThreadOutageEventIngress(consumer, config);
+        ingress.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ingress.stop();
+    }
+
+    @Test
+    @DisplayName("Should handle events on virtual threads without exceeding the concurrency limit")
+    void shouldLimitConcurrency() throws InterruptedException {
+        // given
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger onVirtualThread = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(500);
+        doAnswer(invocation -> {
+            int now = active.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            if (Thread.currentThread().isVirtual()) {
+                onVirtualThread.incrementAndGet();
+            }
+            Thread.sleep(2);
+            active.decrementAndGet();
+            done.countDown();
+            return null;
+        }).when(consumer).consume(any());
+        // when
+        for (int i = 0; i < 500; i++) {
+            assertThat(ingress.submit(new OutageEvent(String.valueOf(i), SourceSystemEnum.EMS, Instant.now()))).isTrue();
+        }
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isLessThanOrEqualTo(4);
+        assertThat(onVirtualThread.get()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,140 @@
+package com.streamnz.practisee.listeners;
+
+import com.streamnz.practisee.config.ListenerConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageEventPublishException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:16
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventListenerRegister Test")
+public class OutageEventListenerRegisterTest {
+
+    @Mock
+    private ApplicationContext context;
+
+    @Mock
+    private ListenerConfig config;
+
+    @Mock
+    private ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+
+    private OutageEventListenerRegister register;
+
+    private final CountDownLatch slowListenerRelease = new CountDownLatch(1);
+    private final CountDownLatch fastListenerCalled = new CountDownLatch(1);
+
+    private final OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+
+    @BeforeEach
+    void setUp() {
+        when(config.isAsyncEnabled()).thenReturn(true);
+        when(config.getThreads()).thenReturn(4);
+        when(config.getQueueCapacity()).thenReturn(100);
+        when(config.getTimeoutMillis()).thenReturn(200L);
+        Map<String, OutageEventListener> listeners = new LinkedHashMap<>();
+        listeners.put("slow", e -> {
+            try {
+                slowListenerRelease.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        listeners.put("failing", e -> {
+            throw new IllegalStateException("listener down");
+        });
+        listeners.put("fast", e -> fastListenerCalled.countDown());
+        when(context.getBeansOfType(OutageEventListener.class)).thenReturn(listeners);
+        register = new OutageEventListenerRegister(config, deadLetterQueueProvider);
+        register.setApplicationContext(context);
+        register.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowListenerRelease.countDown();
+        register.destroy();
+    }
+
+    @Test
+    @DisplayName("Should not gate a fast listener on slow or failing ones")
+    void shouldIsolateListeners() throws InterruptedException {
+        // when
+        CompletableFuture<Void> published = register.publish(event);
+        // then
+        assertThat(fastListenerCalled.await(100, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(published).isNotDone();
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally once a listener fails or times out")
+    void shouldReportFailures() {
+        // when
+        CompletableFuture<Void> published = register.publish(event);
+        // then
+        assertThat(published).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(OutageEventPublishException.class);
+    }
+
+    @Test
+    @DisplayName("Should count and dead-letter an event whose async notification failed")
+    void shouldDeadLetterAsyncFailures() {
+        // given
+        OutageDeadLetterQueue deadLetterQueue = mock(OutageDeadLetterQueue.class);
+        when(deadLetterQueueProvider.getIfAvailable()).thenReturn(deadLetterQueue);
+        // when
+        register.publish(event);
+        // then
+        verify(deadLetterQueue, timeout(1000)).append(same(event), any(OutageEventPublishException.class));
+        assertThat(register.getAsyncFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should route to listeners registered at runtime and stop after unregistering")
+    void shouldRegisterAtRuntime() throws InterruptedException {
+        // given
+        CountDownLatch called = new CountDownLatch(1);
+        OutageEventListener listener = e -> called.countDown();
+        // when
+        assertThat(register.register(listener)).isTrue();
+        assertThat(register.register(listener)).isFalse();
+        register.publish(event);
+        // then
+        assertThat(called.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(register.route(event)).contains(listener);
+        assertThat(register.unregister(listener)).isTrue();
+        assertThat(register.route(event)).doesNotContain(listener).hasSize(3);
+        assertThat(register.getListeners()).hasSize(3);
+    }
+}
@@ -0,0 +1,111 @@
+package com.streamnz.practisee.listeners;
+
+import com.streamnz.practisee.config.ListenerConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.dlq.OutageDeadLetterQueue;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.handler.listeners.OutageEventSubscription;
+import com.streamnz.practisee.service.handler.listeners.StandardOutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.SuburbanStormOutageEventListener;
+import com.streamnz.practisee.service.handler.listeners.UrbanCriticalListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventListenerRegister Routing Test")
+public class OutageEventListenerRoutingTest {
+
+    @Mock
+    private ApplicationContext context;
+
+    @Mock
+    private ListenerConfig config;
+
+    @Mock
+    private ObjectProvider<OutageDeadLetterQueue> deadLetterQueueProvider;
+
+    // the production listeners take every event, the filters are exercised through stubs
+    static class StormListener implements OutageEventListener {
+        @Override
+        public void onOutageEvent(OutageEvent event) {
+        }
+
+        @Override
+        public OutageEventSubscription subscription() {
+            return OutageEventSubscription.all().stormLevelBetween(5, OutageEventSubscription.MAX_STORM_LEVEL);
+        }
+    }
+
+    static class CriticalListener implements OutageEventListener {
+        @Override
+        public void onOutageEvent(OutageEvent event) {
+        }
+
+        @Override
+        public OutageEventSubscription subscription() {
+            return OutageEventSubscription.all().criticalOnly();
+        }
+    }
+
+    private final StandardOutageEventListener standard = new StandardOutageEventListener();
+    private final SuburbanStormOutageEventListener suburbanStorm = new SuburbanStormOutageEventListener();
+    private final UrbanCriticalListener urbanCritical = new UrbanCriticalListener();
+    private final StormListener storm = new StormListener();
+    private final CriticalListener critical = new CriticalListener();
+
+    private OutageEventListenerRegister register;
+
+    @BeforeEach
+    void setUp() {
+        when(context.getBeansOfType(OutageEventListener.class)).thenReturn(Map.of(
+                "standard", standard, "suburbanStorm", suburbanStorm, "urbanCritical", urbanCritical,
+                "storm", storm, "critical", critical));
+        register = new OutageEventListenerRegister(config, deadLetterQueueProvider);
+        register.setApplicationContext(context);
+        register.init();
+    }
+
+    private static OutageEvent event(int stormLevel, boolean critical) {
+        OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+        event.setStormLevel(stormLevel);
+        event.setCritical(critical);
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should route a routine event only to broadcast listeners")
+    void shouldRouteRoutineEvent() {
+        assertThat(register.route(event(1, false))).containsExactlyInAnyOrder(standard, suburbanStorm, urbanCritical);
+    }
+
+    @Test
+    @DisplayName("Should route a critical storm event to every matching listener")
+    void shouldRouteCriticalStormEvent() {
+        assertThat(register.route(event(9, true))).containsExactlyInAnyOrder(standard, suburbanStorm, urbanCritical, storm, critical);
+    }
+
+    @Test
+    @DisplayName("Should treat out-of-range storm levels as the nearest bound")
+    void shouldClampStormLevel() {
+        assertThat(register.route(event(42, false))).containsExactlyInAnyOrder(standard, suburbanStorm, urbanCritical, storm);
+        assertThat(register.route(event(-3, false))).containsExactlyInAnyOrder(standard, suburbanStorm, urbanCritical);
+    }
+}
@@ -0,0 +1,123 @@
+package com.streamnz.practisee.retry;
+
+import com.streamnz.practisee.config.DecoratorConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageMaxRetryException;
+import com.streamnz.practisee.exceptions.OutageValidationException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.handler.OutageHandler;
+import com.streamnz.practisee.service.handler.retry.RetryPolicy;
+import com.streamnz.practisee.service.handler.retry.RetryScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:27
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryScheduler Test")
+public class RetrySchedulerTest {
+
+    @Mock
+    private DecoratorConfig config;
+
+    private RetryScheduler scheduler;
+
+    private final OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+
+    @BeforeEach
+    void setUp() {
+        when(config.getMaxRetries()).thenReturn(3);
+        when(config.getInitialBackoffMillis()).thenReturn(10L);
+        when(config.getMaxBackoffMillis()).thenReturn(20L);
+        when(config.getMaxPendingRetries()).thenReturn(100);
+        scheduler = new RetryScheduler(config);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("Should retry off the calling thread until the handler succeeds")
+    void shouldRetryUntilSuccess() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+        OutageHandler handler = e -> {
+            assertThat(Thread.currentThread()).isNotSameAs(caller);
+            if (calls.incrementAndGet() < 2) {
+                throw new IllegalStateException("db down");
+            }
+            return CompletableFuture.completedFuture(null);
+        };
+        // when
+        CompletableFuture<Void> result = scheduler.retry(event, handler, new IllegalStateException("db down"));
+        // then
+        result.get(1, TimeUnit.SECONDS);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(scheduler.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give up after maxRetries attempts in total")
+    void shouldGiveUpAfterMaxRetries() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        OutageHandler handler = e -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("db down");
+        };
+        // when
+        CompletableFuture<Void> result = scheduler.retry(event, handler, new IllegalStateException("db down"));
+        // then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(OutageMaxRetryException.class);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(scheduler.getExhaustedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry validation failures")
+    void shouldNotRetryValidationFailures() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        OutageHandler handler = e -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        };
+        // when
+        CompletableFuture<Void> result = scheduler.retry(event, handler, new OutageValidationException("Missing eventTime", "1"));
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cap the jittered backoff")
+    void shouldCapBackoff() {
+        for (int attempt = 1; attempt < 64; attempt++) {
+            assertThat(RetryPolicy.backoffMillis(attempt, 50, 5000)).isBetween(0L, 5000L);
+        }
+        assertThat(RetryPolicy.backoffMillis(1, 50, 5000)).isLessThanOrEqualTo(50);
+    }
+}
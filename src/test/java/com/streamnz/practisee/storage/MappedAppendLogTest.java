@@ -0,0 +1,147 @@
+package com.streamnz.practisee.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:32
+ */
+@DisplayName("MappedAppendLog Test")
+public class MappedAppendLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static ByteBuffer payload(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> readAll(MappedAppendLog log, long fromOffset) {
+        List<String> values = new ArrayList<>();
+        log.read(fromOffset, (offset, payload) -> {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            values.add(new String(bytes, StandardCharsets.UTF_8));
+            return true;
+        });
+        return values;
+    }
+
+    @Test
+    @DisplayName("Should read records back across segment rolls")
+    void shouldReadAcrossSegments() throws IOException {
+        // given
+        try (MappedAppendLog log = new MappedAppendLog(directory, 64, 1000, 0)) {
+            // when
+            List<Long> offsets = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                offsets.add(log.append(payload("record-" + i)));
+            }
+            // then
+            assertThat(log.getSegmentCount()).isGreaterThan(1);
+            assertThat(readAll(log, 0)).hasSize(10).startsWith("record-0").endsWith("record-9");
+            assertThat(readAll(log, offsets.get(7))).containsExactly("record-7", "record-8", "record-9");
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume after the last intact record when reopened")
+    void shouldRecoverAfterReopen() throws IOException {
+        // given
+        try (MappedAppendLog log = new MappedAppendLog(directory, 1024, 1, 0)) {
+            log.append(payload("first"));
+            log.append(payload("second"));
+        }
+        // a torn third record: length written, checksum does not match
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            int end = 2 * MappedAppendLog.HEADER_BYTES + "first".length() + "second".length();
+            buffer.putInt(end, 5);
+            buffer.put(end + MappedAppendLog.HEADER_BYTES, (byte) 'x');
+            buffer.force();
+        }
+        // when
+        try (MappedAppendLog log = new MappedAppendLog(directory, 1024, 1, 0)) {
+            log.append(payload("third"));
+            // then
+            assertThat(readAll(log, 0)).containsExactly("first", "second", "third");
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete only segments entirely before the offset")
+    void shouldTruncateWholeSegments() throws IOException {
+        // given
+        try (MappedAppendLog log = new MappedAppendLog(directory, 64, 1000, 0)) {
+            List<Long> offsets = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                offsets.add(log.append(payload("record-" + i)));
+            }
+            // when
+            int deleted = log.truncateBefore(offsets.get(5));
+            // then
+            assertThat(deleted).isPositive();
+            List<String> remaining = readAll(log, 0);
+            assertThat(remaining).contains("record-5").endsWith("record-9");
+            assertThat(remaining).doesNotContain("record-0");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep appending while segments are forced and truncated concurrently")
+    void shouldTruncateWhileAppending() throws Exception {
+        // given
+        try (MappedAppendLog log = new MappedAppendLog(directory, 64, 1, 0)) {
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                List<Future<?>> appenders = new ArrayList<>();
+                for (int t = 0; t < 2; t++) {
+                    appenders.add(executor.submit(() -> {
+                        for (int i = 0; i < 2000; i++) {
+                            log.append(payload("record-" + i));
+                        }
+                    }));
+                }
+                // when
+                Future<?> truncator = executor.submit(() -> {
+                    while (!appenders.stream().allMatch(Future::isDone)) {
+                        log.truncateBefore(log.getEndOffset());
+                        readAll(log, 0);
+                    }
+                });
+                for (Future<?> appender : appenders) {
+                    appender.get();
+                }
+                truncator.get();
+            } finally {
+                executor.shutdown();
+            }
+            // then
+            assertThat(log.getSegmentCount()).isPositive();
+            assertThat(log.append(payload("last"))).isEqualTo(log.getEndOffset() - MappedAppendLog.HEADER_BYTES - 4);
+            assertThat(readAll(log, 0)).endsWith("last");
+        }
+    }
+}
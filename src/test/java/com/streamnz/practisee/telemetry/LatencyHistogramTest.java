@@ -0,0 +1,70 @@
+package com.streamnz.practisee.telemetry;
+
+import com.streamnz.practisee.model.dto.LatencySnapshot;
+import com.streamnz.practisee.service.telemetry.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:20
+ */
+@DisplayName("LatencyHistogram Test")
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision")
+    void shouldReportPercentiles() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        // when
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        // then
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(100_000);
+        assertThat((double) snapshot.p50Nanos()).isCloseTo(50_000_000, within(50_000_000 / 16.0));
+        assertThat((double) snapshot.p99Nanos()).isCloseTo(99_000_000, within(99_000_000 / 16.0));
+        assertThat((double) snapshot.p999Nanos()).isCloseTo(99_900_000, within(99_900_000 / 16.0));
+        assertThat(snapshot.maxNanos()).isEqualTo(100_000_000);
+    }
+
+    @Test
+    @DisplayName("Should keep small values exact")
+    void shouldKeepSmallValuesExact() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        // when
+        histogram.record(7);
+        // then
+        assertThat(histogram.snapshot().p50Nanos()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should not lose concurrent recordings")
+    void shouldCountConcurrentRecordings() throws InterruptedException {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        // when
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        // then
+        assertThat(histogram.snapshot().count()).isEqualTo(400_000);
+    }
+}
@@ -0,0 +1,36 @@
+package com.streamnz.practisee.telemetry;
+
+import com.streamnz.practisee.service.telemetry.LogRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:51
+ */
+@DisplayName("LogRateLimiter Test")
+public class LogRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Should allow the configured logs per second and count the rest")
+    void shouldLimitPerSecond() {
+        // given
+        LogRateLimiter limiter = new LogRateLimiter(2, now::get);
+        // when & then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.tryAcquire()).isFalse();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.takeSuppressed()).isEqualTo(2);
+        assertThat(limiter.takeSuppressed()).isZero();
+    }
+}
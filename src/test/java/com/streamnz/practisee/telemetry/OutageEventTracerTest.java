@@ -0,0 +1,64 @@
+package com.streamnz.practisee.telemetry;
+
+import com.streamnz.practisee.config.TraceConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.exceptions.OutageMaxRetryException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.telemetry.OutageEventTracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:56
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventTracer Test")
+public class OutageEventTracerTest {
+
+    @Mock
+    private TraceConfig config;
+
+    @InjectMocks
+    private OutageEventTracer tracer;
+
+    private final OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+
+    @Test
+    @DisplayName("Should always trace failures and critical events")
+    void shouldAlwaysTraceFailuresAndCriticalEvents() {
+        // given
+        when(config.getSampleRate()).thenReturn(0.0);
+        when(config.isAlwaysTraceCritical()).thenReturn(true);
+        // when & then
+        assertThat(tracer.shouldTrace(event, null)).isFalse();
+        assertThat(tracer.shouldTrace(event, new OutageMaxRetryException("Max retries reached for event", "1"))).isTrue();
+        event.setCritical(true);
+        assertThat(tracer.shouldTrace(event, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should sample successful events at the configured rate")
+    void shouldSampleSuccesses() {
+        // given
+        when(config.getSampleRate()).thenReturn(0.25);
+        // when
+        int traced = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (tracer.shouldTrace(event, null)) {
+                traced++;
+            }
+        }
+        // then
+        assertThat(traced).isBetween(23_000, 27_000);
+    }
+}
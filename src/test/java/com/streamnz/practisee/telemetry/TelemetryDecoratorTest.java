@@ -0,0 +1,98 @@
+package com.streamnz.practisee.telemetry;
+
+import com.streamnz.practisee.enums.OutageErrorCodeEnum;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.enums.TelemetryOutcomeEnum;
+import com.streamnz.practisee.exceptions.OutageMaxRetryException;
+import com.streamnz.practisee.exceptions.OutageTelemetryHandleException;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.OutageService;
+import com.streamnz.practisee.service.TelemetryService;
+import com.streamnz.practisee.service.handler.SCADAHandler;
+import com.streamnz.practisee.service.handler.decorator.RetryDecorator;
+import com.streamnz.practisee.service.handler.decorator.TelemetryDecorator;
+import com.streamnz.practisee.service.handler.listeners.OutageEventListenerRegister;
+import com.streamnz.practisee.service.impl.TelemetryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:20
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelemetryDecorator Test")
+public class TelemetryDecoratorTest {
+
+    @Mock
+    private OutageService outageService;
+
+    @Mock
+    private OutageEventListenerRegister listenerRegister;
+
+    private final TelemetryService telemetryService = new TelemetryServiceImpl();
+
+    private TelemetryDecorator decorator;
+
+    private final OutageEvent event = new OutageEvent("1", SourceSystemEnum.SCADA, Instant.now());
+
+    @BeforeEach
+    void setUp() {
+        decorator = new TelemetryDecorator(new RetryDecorator(new SCADAHandler(outageService, listenerRegister), 1), telemetryService);
+    }
+
+    @Test
+    @DisplayName("Should record success latency under the innermost handler name")
+    void shouldRecordSuccess() {
+        // given
+        when(outageService.saveEventAsync(event)).thenReturn(CompletableFuture.completedFuture(null));
+        // when
+        decorator.handle(event).join();
+        // then
+        assertThat(telemetryService.getHandlerNames()).containsExactly("SCADAHandler");
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.SUCCESS).count()).isEqualTo(1);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.FAILURE).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record failure latency and rethrow a stackless exception")
+    void shouldRecordFailure() {
+        // given
+        doThrow(new IllegalStateException("db down")).when(outageService).saveEventAsync(any());
+        // when & then
+        assertThatThrownBy(() -> decorator.handle(event))
+                .isInstanceOfSatisfying(OutageTelemetryHandleException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(OutageErrorCodeEnum.HANDLE_FAILED);
+                    assertThat(e.getEventId()).isEqualTo("1");
+                    assertThat(e.getStackTrace()).isEmpty();
+                })
+                .hasCauseInstanceOf(OutageMaxRetryException.class);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.FAILURE).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record a write that fails after the handler returned")
+    void shouldRecordFailedWrite() {
+        // given
+        when(outageService.saveEventAsync(event)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+        // when
+        CompletableFuture<Void> persisted = decorator.handle(event);
+        // then
+        assertThat(persisted).isCompletedExceptionally();
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.FAILURE).count()).isEqualTo(1);
+        assertThat(telemetryService.getSnapshot("SCADAHandler", TelemetryOutcomeEnum.SUCCESS).count()).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package com.streamnz.practisee.wal;
+
+import com.streamnz.practisee.config.WalConfig;
+import com.streamnz.practisee.enums.SourceSystemEnum;
+import com.streamnz.practisee.model.dto.OutageEvent;
+import com.streamnz.practisee.service.wal.OutageEventJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @Author cheng hao
+ * @Date 17/10/2026 02:35
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutageEventJournal Test")
+public class OutageEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private WalConfig config;
+
+    @BeforeEach
+    void setUp() {
+        when(config.getDirectory()).thenReturn(directory.toString());
+        when(config.getSegmentBytes()).thenReturn(1 << 16);
+        when(config.getForceEveryAppends()).thenReturn(64);
+        when(config.getForceIntervalMillis()).thenReturn(0L);
+        when(config.getCheckpointIntervalMillis()).thenReturn(60_000L);
+    }
+
+    private OutageEventJournal open() throws IOException {
+        OutageEventJournal journal = new OutageEventJournal(config);
+        journal.start();
+        return journal;
+    }
+
+    private static OutageEvent event(String eventId) {
+        return new OutageEvent(eventId, SourceSystemEnum.SCADA, Instant.now());
+    }
+
+    private static List<String> recoverAll(OutageEventJournal journal) {
+        List<String> recovered = new ArrayList<>();
+        journal.recover((event, offset) -> {
+            recovered.add(event.getEventId());
+            journal.complete(offset);
+        });
+        return recovered;
+    }
+
+    @Test
+    @DisplayName("Should checkpoint at the oldest event still in flight")
+    void shouldCheckpointOldestInFlight() throws IOException {
+        // given
+        OutageEventJournal journal = open();
+        long first = journal.append(event("evt-1"));
+        long second = journal.append(event("evt-2"));
+        long third = journal.append(event("evt-3"));
+        // when
+        journal.complete(first);
+        journal.complete(third);
+        // then
+        assertThat(journal.checkpoint()).isEqualTo(second);
+        journal.complete(second);
+        assertThat(journal.checkpoint()).isGreaterThan(third);
+        journal.stop();
+    }
+
+    @Test
+    @DisplayName("Should recover events that were not checkpointed before shutdown")
+    void shouldRecoverAfterRestart() throws IOException {
+        // given
+        OutageEventJournal journal = open();
+        long first = journal.append(event("evt-1"));
+        journal.append(event("evt-2"));
+        long third = journal.append(event("evt-3"));
+        journal.complete(first);
+        journal.complete(third);
+        journal.stop();
+        // when
+        OutageEventJournal reopened = open();
+        List<String> recovered = recoverAll(reopened);
+        // then at least once, the completed evt-3 after the checkpoint is replayed as well
+        assertThat(recovered).containsExactly("evt-2", "evt-3");
+        assertThat(reopened.getInFlightCount()).isZero();
+        reopened.stop();
+        OutageEventJournal again = open();
+        assertThat(recoverAll(again)).isEmpty();
+        again.stop();
+    }
+
+    @Test
+    @DisplayName("Should not replay events appended after startup")
+    void shouldNotRecoverNewEvents() throws IOException {
+        // given
+        OutageEventJournal journal = open();
+        journal.append(event("evt-1"));
+        journal.stop();
+        OutageEventJournal reopened = open();
+        reopened.append(event("evt-new"));
+        // when
+        List<String> recovered = recoverAll(reopened);
+        // then
+        assertThat(recovered).containsExactly("evt-1");
+        assertThat(reopened.getInFlightCount()).isEqualTo(1);
+        reopened.stop();
+    }
+}